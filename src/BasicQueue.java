@@ -1,34 +1,179 @@
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
 public class BasicQueue {
+    // Marks a queue whose capacity is not a power of two (index wraps by comparing against capacity)
+    private static final int NO_MASK = -1;
+    // Largest int[] most JVMs will allocate
+    private static final int MAX_ARRAY_CAPACITY = Integer.MAX_VALUE - 8;
+
     private int[] queue;
-    private int front;
-    private int rear;
-    private int size;
+    // head and tail only ever increase; size is tail - head
+    private long head;
+    private long tail;
+    // Slot of head, so the unmasked path wraps with an int compare instead of a long division
+    private int headSlot;
     private int capacity;
+    private int mask;
+    private QueueListener listener = QueueListener.NO_OP;
+
+    // Auto-growing mode (off unless created with BasicQueue.growable)
+    private boolean growable;
+    private double growthFactor;
+    private int minCapacity;
+    private int maxCapacity;
+    private boolean shrinkWhenIdle;
 
     // Constructor to initialize the queue with a given capacity
     public BasicQueue(int capacity) {
         this.capacity = capacity;
         this.queue = new int[capacity];
-        this.front = 0;
-        this.rear = -1;
-        this.size = 0;
+        this.head = 0;
+        this.tail = 0;
+        this.mask = NO_MASK;
+    }
+
+    /**
+     * Create a queue whose capacity is rounded up to a power of two, so every
+     * index computation is a single AND instead of an integer division
+     * 
+     * @param capacity the minimum capacity
+     * @return an empty queue with capacity rounded up to a power of two
+     */
+    public static BasicQueue powerOfTwo(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        BasicQueue queue = new BasicQueue(roundUpToPowerOfTwo(capacity));
+        queue.mask = queue.capacity - 1;
+        return queue;
+    }
+
+    /**
+     * Create a queue that doubles its backing array instead of rejecting elements when full
+     * 
+     * @param initialCapacity the starting capacity
+     * @return an empty auto-growing queue
+     */
+    public static BasicQueue growable(int initialCapacity) {
+        return growable(initialCapacity, 2.0, MAX_ARRAY_CAPACITY, false);
+    }
+
+    /**
+     * Create a queue that grows its backing array instead of rejecting elements when full
+     * 
+     * Growing multiplies the capacity by growthFactor, so enqueue stays amortized O(1).
+     * With shrinkWhenIdle set, the array is divided by growthFactor (never below
+     * initialCapacity) once occupancy falls to 1/growthFactor^2 of the capacity; the gap
+     * between the two thresholds stops a queue hovering at one size from resizing repeatedly.
+     * 
+     * @param initialCapacity the starting (and minimum) capacity
+     * @param growthFactor how much to multiply the capacity by when it grows, greater than 1
+     * @param maxCapacity the capacity beyond which enqueue is rejected as in a fixed queue
+     * @param shrinkWhenIdle whether to release memory when occupancy stays low
+     * @return an empty auto-growing queue
+     */
+    public static BasicQueue growable(int initialCapacity, double growthFactor, int maxCapacity,
+            boolean shrinkWhenIdle) {
+        if (initialCapacity <= 0 || initialCapacity > maxCapacity || maxCapacity > MAX_ARRAY_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity range: " + initialCapacity + ".." + maxCapacity);
+        }
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1: " + growthFactor);
+        }
+        BasicQueue queue = new BasicQueue(initialCapacity);
+        queue.growable = true;
+        queue.growthFactor = growthFactor;
+        queue.minCapacity = initialCapacity;
+        queue.maxCapacity = maxCapacity;
+        queue.shrinkWhenIdle = shrinkWhenIdle;
+        return queue;
+    }
+
+    private static int roundUpToPowerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        return highest == value ? value : highest << 1;
+    }
+
+    // Map a head/tail sequence number, at most capacity past head, to its slot in the array
+    private int index(long sequence) {
+        if (mask != NO_MASK) {
+            return (int) sequence & mask;
+        }
+        int offset = (int) (sequence - head);
+        int untilEnd = capacity - headSlot;
+        return offset < untilEnd ? headSlot + offset : offset - untilEnd;
+    }
+
+    // Remove count elements from the front
+    private void advanceHead(int count) {
+        headSlot = index(head + count);
+        head += count;
+    }
+
+    // Grow the backing array so it can hold at least required elements
+    private boolean ensureCapacity(long required) {
+        if (required <= capacity) {
+            return true;
+        }
+        if (!growable || required > maxCapacity) {
+            return false;
+        }
+        long grown = (long) Math.ceil(capacity * growthFactor);
+        int newCapacity = (int) Math.min(maxCapacity, Math.max(grown, required));
+        if (mask != NO_MASK) {
+            newCapacity = roundUpToPowerOfTwo(newCapacity);
+        }
+        resize(newCapacity);
+        return true;
+    }
+
+    // Shrink the backing array after a dequeue if occupancy has dropped far enough
+    private void shrinkIfIdle() {
+        if (capacity > minCapacity && (tail - head) * growthFactor * growthFactor <= capacity) {
+            int newCapacity = Math.max(minCapacity, (int) (capacity / growthFactor));
+            if (mask != NO_MASK) {
+                newCapacity = roundUpToPowerOfTwo(newCapacity);
+            }
+            if (newCapacity < capacity) {
+                resize(newCapacity);
+            }
+        }
+    }
+
+    // Move the elements into a new array, unwrapping them so the front is at index 0
+    private void resize(int newCapacity) {
+        int[] resized = new int[newCapacity];
+        int size = getSize();
+        int first = index(head);
+        int firstLength = Math.min(size, capacity - first);
+        System.arraycopy(queue, first, resized, 0, firstLength);
+        System.arraycopy(queue, 0, resized, firstLength, size - firstLength);
+        queue = resized;
+        capacity = newCapacity;
+        if (mask != NO_MASK) {
+            mask = newCapacity - 1;
+        }
+        head = 0;
+        headSlot = 0;
+        tail = size;
     }
 
     /**
      * Enqueue - Add an element to the rear of the queue
-     * Time Complexity: O(1)
+     * Time Complexity: O(1) (amortized O(1) for a growable queue)
      * 
      * @param element the element to be added
      */
     public void enqueue(int element) {
-        if (size == capacity) {
-            System.out.println("Queue is full! Cannot enqueue " + element);
+        if (tail - head == capacity && !ensureCapacity(capacity + 1L)) {
+            listener.onRejected(element);
             return;
         }
-        rear = (rear + 1) % capacity;
-        queue[rear] = element;
-        size++;
-        System.out.println("Enqueued: " + element);
+        queue[index(tail)] = element;
+        tail++;
+        listener.onEnqueue(element);
     }
 
     /**
@@ -38,14 +183,16 @@ public class BasicQueue {
      * @return the front element or -1 if queue is empty
      */
     public int dequeue() {
-        if (size == 0) {
-            System.out.println("Queue is empty! Cannot dequeue.");
+        if (tail == head) {
+            listener.onDequeueEmpty();
             return -1;
         }
-        int element = queue[front];
-        front = (front + 1) % capacity;
-        size--;
-        System.out.println("Dequeued: " + element);
+        int element = queue[index(head)];
+        advanceHead(1);
+        if (shrinkWhenIdle) {
+            shrinkIfIdle();
+        }
+        listener.onDequeue(element);
         return element;
     }
 
@@ -56,11 +203,262 @@ public class BasicQueue {
      * @return the front element or -1 if queue is empty
      */
     public int peek() {
-        if (size == 0) {
-            System.out.println("Queue is empty!");
+        if (tail == head) {
+            listener.onPeekEmpty();
             return -1;
         }
-        return queue[front];
+        return queue[index(head)];
+    }
+
+    /**
+     * Get an element by its position without removing it
+     * Time Complexity: O(1)
+     * 
+     * @param position 0 for the front element, getSize() - 1 for the rear
+     * @return the element at that position
+     * @throws IndexOutOfBoundsException if position is outside the queue
+     */
+    public int get(int position) {
+        Objects.checkIndex(position, getSize());
+        return queue[index(head + position)];
+    }
+
+    // Receives one contiguous run of the backing array: array[from] .. array[to - 1]
+    interface RunVisitor {
+        void visit(int[] array, int from, int to);
+    }
+
+    // Visit the elements front to rear as at most two contiguous runs of the array, without copying
+    void forEachRun(RunVisitor visitor) {
+        int size = getSize();
+        int first = index(head);
+        int firstLength = Math.min(size, capacity - first);
+        if (firstLength > 0) {
+            visitor.visit(queue, first, first + firstLength);
+        }
+        if (size > firstLength) {
+            visitor.visit(queue, 0, size - firstLength);
+        }
+    }
+
+    /**
+     * Reverse the order of the elements in place by swapping from both ends
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     */
+    public void reverse() {
+        for (long front = head, rear = tail - 1; front < rear; front++, rear--) {
+            int i = index(front);
+            int j = index(rear);
+            int temp = queue[i];
+            queue[i] = queue[j];
+            queue[j] = temp;
+        }
+    }
+
+    /**
+     * Create a spliterator over the elements from front to rear, for streams
+     * and parallel algorithms. It splits by position, so halves are exact.
+     * The queue must not be modified while the spliterator is in use.
+     * 
+     * @return a sized, splittable spliterator over the elements
+     */
+    public Spliterator.OfInt spliterator() {
+        return new PositionSpliterator(0, getSize());
+    }
+
+    // Covers positions [position, end) relative to the head at creation
+    private class PositionSpliterator implements Spliterator.OfInt {
+        private final long base = head;
+        private int position;
+        private final int end;
+
+        PositionSpliterator(int position, int end) {
+            this.position = position;
+            this.end = end;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int middle = (position + end) >>> 1;
+            if (middle <= position) {
+                return null;
+            }
+            Spliterator.OfInt prefix = new PositionSpliterator(position, middle);
+            position = middle;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (position >= end) {
+                return false;
+            }
+            action.accept(queue[index(base + position++)]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            // Walk the (at most two) contiguous runs of the array directly
+            while (position < end) {
+                int start = index(base + position);
+                int run = Math.min(end - position, capacity - start);
+                for (int i = start; i < start + run; i++) {
+                    action.accept(queue[i]);
+                }
+                position += run;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    /**
+     * Bulk enqueue - Add a range of elements to the rear of the queue
+     * Copies the range with at most two System.arraycopy calls (one per side of the wrap)
+     * Time Complexity: O(len)
+     * 
+     * @param src the array holding the elements
+     * @param off index of the first element in src
+     * @param len number of elements to add
+     * @return the number of elements added, less than len only if the queue filled up
+     */
+    public int enqueueAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        long required = tail - head + len;
+        if (!ensureCapacity(required) && growable) {
+            ensureCapacity(maxCapacity);
+        }
+        int count = (int) Math.min(len, capacity - (tail - head));
+        writeAt(tail, src, off, count);
+        tail += count;
+        if (listener != QueueListener.NO_OP) {
+            for (int i = 0; i < len; i++) {
+                if (i < count) {
+                    listener.onEnqueue(src[off + i]);
+                } else {
+                    listener.onRejected(src[off + i]);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Bulk dequeue - Remove up to max elements from the front into an array
+     * Copies with at most two System.arraycopy calls (one per side of the wrap)
+     * Time Complexity: O(max)
+     * 
+     * @param dst the array to copy the elements into
+     * @param off index in dst for the first element
+     * @param max the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    public int dequeueInto(int[] dst, int off, int max) {
+        Objects.checkFromIndexSize(off, max, dst.length);
+        int count = (int) Math.min(max, tail - head);
+        readAt(head, dst, off, count);
+        advanceHead(count);
+        if (shrinkWhenIdle) {
+            shrinkIfIdle();
+        }
+        if (listener != QueueListener.NO_OP) {
+            for (int i = 0; i < count; i++) {
+                listener.onDequeue(dst[off + i]);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Move as many elements as fit from this queue to the rear of another queue
+     * Copies each contiguous segment of this queue directly into the other's array
+     * Time Complexity: O(n)
+     * 
+     * @param other the queue to move the elements into
+     * @return the number of elements moved
+     */
+    public int drainTo(BasicQueue other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot drain a queue into itself");
+        }
+        long required = (other.tail - other.head) + (tail - head);
+        if (!other.ensureCapacity(required) && other.growable) {
+            other.ensureCapacity(other.maxCapacity);
+        }
+        int count = (int) Math.min(tail - head, other.capacity - (other.tail - other.head));
+        int first = index(head);
+        int firstLength = Math.min(count, capacity - first);
+        other.writeAt(other.tail, queue, first, firstLength);
+        other.writeAt(other.tail + firstLength, queue, 0, count - firstLength);
+        other.tail += count;
+        if (listener != QueueListener.NO_OP || other.listener != QueueListener.NO_OP) {
+            for (long i = head; i < head + count; i++) {
+                int element = queue[index(i)];
+                listener.onDequeue(element);
+                other.listener.onEnqueue(element);
+            }
+        }
+        advanceHead(count);
+        if (shrinkWhenIdle) {
+            shrinkIfIdle();
+        }
+        return count;
+    }
+
+    /**
+     * Concatenate - Move every element of another queue to the rear of this one,
+     * leaving the other queue empty. Nothing is moved unless all of it fits
+     * (a growable queue grows first); the move itself is at most four
+     * System.arraycopy calls, one per contiguous piece on each side.
+     * Time Complexity: O(m) element copies, but no per-element work
+     * 
+     * @param other the queue whose elements are moved
+     * @return true if the elements were moved, false if they do not fit
+     */
+    public boolean concat(BasicQueue other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot concatenate a queue with itself");
+        }
+        if (!ensureCapacity((tail - head) + (other.tail - other.head))) {
+            return false;
+        }
+        other.drainTo(this);
+        return true;
+    }
+
+    // Copy count elements from src into the ring starting at the given sequence number
+    private void writeAt(long sequence, int[] src, int off, int count) {
+        int start = index(sequence);
+        int firstLength = Math.min(count, capacity - start);
+        System.arraycopy(src, off, queue, start, firstLength);
+        System.arraycopy(src, off + firstLength, queue, 0, count - firstLength);
+    }
+
+    // Copy count elements out of the ring starting at the given sequence number
+    private void readAt(long sequence, int[] dst, int off, int count) {
+        int start = index(sequence);
+        int firstLength = Math.min(count, capacity - start);
+        System.arraycopy(queue, start, dst, off, firstLength);
+        System.arraycopy(queue, 0, dst, off + firstLength, count - firstLength);
+    }
+
+    /**
+     * Attach a listener that is notified of enqueue/dequeue events
+     * 
+     * @param listener the listener to notify, or null to remove it
+     */
+    public void setListener(QueueListener listener) {
+        this.listener = listener == null ? QueueListener.NO_OP : listener;
     }
 
     /**
@@ -69,16 +467,26 @@ public class BasicQueue {
      * @return true if queue is empty, false otherwise
      */
     public boolean isEmpty() {
-        return size == 0;
+        return tail == head;
     }
 
     /**
      * Check if the queue is full
+     * A growable queue is only full once it has reached its maximum capacity
      * 
      * @return true if queue is full, false otherwise
      */
     public boolean isFull() {
-        return size == capacity;
+        return tail - head == (growable ? maxCapacity : capacity);
+    }
+
+    /**
+     * Get the current capacity of the backing array
+     * 
+     * @return the number of elements the queue can hold without growing
+     */
+    public int getCapacity() {
+        return capacity;
     }
 
     /**
@@ -87,7 +495,7 @@ public class BasicQueue {
      * @return the number of elements in the queue
      */
     public int getSize() {
-        return size;
+        return (int) (tail - head);
     }
 
     /**
@@ -95,14 +503,13 @@ public class BasicQueue {
      * Time Complexity: O(n)
      */
     public void display() {
-        if (size == 0) {
+        if (tail == head) {
             System.out.println("Queue is empty!");
             return;
         }
         System.out.print("Queue elements (front to rear): ");
-        for (int i = 0; i < size; i++) {
-            int index = (front + i) % capacity;
-            System.out.print(queue[index] + " ");
+        for (long i = head; i < tail; i++) {
+            System.out.print(queue[index(i)] + " ");
         }
         System.out.println();
     }
@@ -112,6 +519,7 @@ public class BasicQueue {
         System.out.println("=== Basic Queue Implementation (Array-based) ===\n");
 
         BasicQueue queue = new BasicQueue(5);
+        queue.setListener(QueueListener.CONSOLE);
 
         System.out.println("--- Enqueue Operations ---");
         queue.enqueue(10);
@@ -146,5 +554,56 @@ public class BasicQueue {
             queue.dequeue();
         }
         queue.dequeue(); // This will show empty queue message
+
+        System.out.println("\n--- Power-of-two Capacity (Bitmask Indexing) ---");
+        BasicQueue masked = BasicQueue.powerOfTwo(5);
+        masked.setListener(QueueListener.CONSOLE);
+        for (int i = 1; i <= 8; i++) {
+            masked.enqueue(i * 10);
+        }
+        masked.enqueue(90); // Capacity was rounded up to 8, so this one is rejected
+        masked.dequeue();
+        masked.dequeue();
+        masked.enqueue(100);
+        masked.display();
+        System.out.println("Queue size: " + masked.getSize());
+
+        System.out.println("\n--- Growable Queue ---");
+        BasicQueue growing = BasicQueue.growable(2, 2.0, 16, true);
+        for (int i = 1; i <= 10; i++) {
+            growing.enqueue(i);
+        }
+        growing.display();
+        System.out.println("Queue size: " + growing.getSize() + ", capacity: " + growing.getCapacity());
+        while (growing.getSize() > 1) {
+            growing.dequeue();
+        }
+        System.out.println("After draining to one element, capacity: " + growing.getCapacity());
+
+        System.out.println("\n--- Bulk Operations ---");
+        BasicQueue batch = new BasicQueue(6);
+        System.out.println("enqueueAll added: " + batch.enqueueAll(new int[] {1, 2, 3, 4, 5, 6, 7}, 0, 7));
+        int[] out = new int[4];
+        System.out.println("dequeueInto removed: " + batch.dequeueInto(out, 0, 4)
+                + " -> " + java.util.Arrays.toString(out));
+        batch.enqueueAll(new int[] {7, 8, 9}, 0, 3);
+        batch.display();
+        BasicQueue target = BasicQueue.growable(2);
+        System.out.println("drainTo moved: " + batch.drainTo(target));
+        target.display();
+
+        System.out.println("\n--- Concatenate (All or Nothing) ---");
+        BasicQueue first = BasicQueue.powerOfTwo(8);
+        BasicQueue second = new BasicQueue(5);
+        for (int i = 1; i <= 5; i++) {
+            first.enqueue(i);
+            second.enqueue(i * 10);
+        }
+        System.out.println("concat into capacity 8: " + first.concat(second));
+        second.dequeue();
+        second.dequeue();
+        System.out.println("concat after two dequeues: " + first.concat(second));
+        first.display();
+        System.out.println("Other queue size: " + second.getSize());
     }
 }
@@ -0,0 +1,52 @@
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases direct and memory-mapped buffers without waiting for garbage collection.
+ * 
+ * Uses sun.misc.Unsafe.invokeCleaner when the JDK allows it. OffHeapIntQueue frees
+ * its segments with it, and PrintJobLog unmaps segment files before deleting them.
+ * Where the method is not available, free does nothing and the memory is released
+ * when the buffer is garbage collected.
+ */
+final class BufferCleaner {
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available: memory is released when the buffer is garbage collected
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private BufferCleaner() {
+    }
+
+    /**
+     * Free a direct buffer or unmap a mapped one; it must not be used afterwards
+     * 
+     * @param buffer a direct or memory-mapped buffer
+     */
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // Leave it to the garbage collector
+        }
+    }
+}
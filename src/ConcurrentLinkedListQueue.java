@@ -0,0 +1,266 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Unbounded non-blocking queue with the same operations as LinkedListQueue,
+ * safe for any number of concurrent producers and consumers.
+ * 
+ * Implements the Michael-Scott algorithm on LinkedListQueue's singly-linked
+ * Node model: head always points at a sentinel node whose successor is the
+ * front element, nodes are appended with a CAS on the rear node's next link,
+ * and tail is swung forward with a CAS (any thread that sees it lagging helps
+ * move it). The element count is a LongAdder so producers and consumers do
+ * not contend on a single counter.
+ */
+public class ConcurrentLinkedListQueue {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentLinkedListQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedListQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Node class for linked list representation
+    private static class Node {
+        final int data;
+        volatile Node next;
+
+        Node(int data) {
+            this.data = data;
+            this.next = null;
+        }
+    }
+
+    // Sentinel; the front element is head.next
+    private volatile Node head;
+    // Last node, or a node close to it while an enqueue is in progress
+    private volatile Node tail;
+    private final LongAdder size = new LongAdder();
+    private QueueListener listener = QueueListener.NO_OP;
+
+    // Constructor
+    public ConcurrentLinkedListQueue() {
+        Node sentinel = new Node(0);
+        this.head = sentinel;
+        this.tail = sentinel;
+    }
+
+    /**
+     * Enqueue - Add an element to the rear of the queue
+     * Time Complexity: O(1) (lock-free; retries only under contention)
+     * 
+     * @param element the element to be added
+     */
+    public void enqueue(int element) {
+        Node newNode = new Node(element);
+        while (true) {
+            Node last = tail;
+            Node next = last.next;
+            if (last != tail) {
+                continue;
+            }
+            if (next == null) {
+                // Try to link the new node after the current last node
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    TAIL.compareAndSet(this, last, newNode);
+                    break;
+                }
+            } else {
+                // Tail is lagging behind; help move it forward
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+        size.increment();
+        listener.onEnqueue(element);
+    }
+
+    /**
+     * Dequeue - Remove and return the front element from the queue
+     * Time Complexity: O(1) (lock-free; retries only under contention)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int dequeue() {
+        while (true) {
+            Node first = head;
+            Node last = tail;
+            Node next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (first == last) {
+                if (next == null) {
+                    listener.onDequeueEmpty();
+                    return -1;
+                }
+                // An enqueue linked a node but has not swung tail yet; help it
+                TAIL.compareAndSet(this, last, next);
+            } else {
+                int element = next.data;
+                // The dequeued node becomes the new sentinel
+                if (HEAD.compareAndSet(this, first, next)) {
+                    size.decrement();
+                    listener.onDequeue(element);
+                    return element;
+                }
+            }
+        }
+    }
+
+    /**
+     * Peek - View the front element without removing it
+     * Time Complexity: O(1)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int peek() {
+        Node next = head.next;
+        if (next == null) {
+            listener.onPeekEmpty();
+            return -1;
+        }
+        return next.data;
+    }
+
+    /**
+     * Attach a listener that is notified of enqueue/dequeue/search events
+     * Set it before the queue is shared with other threads
+     * 
+     * @param listener the listener to notify, or null to remove it
+     */
+    public void setListener(QueueListener listener) {
+        this.listener = listener == null ? QueueListener.NO_OP : listener;
+    }
+
+    /**
+     * Check if the queue is empty
+     * 
+     * @return true if queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Get the current size of the queue
+     * The result is a snapshot and may be stale as soon as it returns
+     * 
+     * @return the number of elements in the queue
+     */
+    public int getSize() {
+        return (int) Math.max(0, Math.min(size.sum(), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Display all elements in the queue
+     * Time Complexity: O(n)
+     */
+    public void display() {
+        Node current = head.next;
+        if (current == null) {
+            System.out.println("Queue is empty!");
+            return;
+        }
+
+        System.out.print("Queue elements (front to rear): ");
+        while (current != null) {
+            System.out.print(current.data + " ");
+            current = current.next;
+        }
+        System.out.println();
+    }
+
+    /**
+     * Search for an element in the queue
+     * Weakly consistent: sees every element present for the whole search
+     * Time Complexity: O(n)
+     * 
+     * @param element the element to search for
+     * @return true if element is found, false otherwise
+     */
+    public boolean search(int element) {
+        Node current = head.next;
+        while (current != null) {
+            if (current.data == element) {
+                listener.onSearch(element, true);
+                return true;
+            }
+            current = current.next;
+        }
+        listener.onSearch(element, false);
+        return false;
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Concurrent Queue Implementation (Michael-Scott, lock-free) ===\n");
+
+        ConcurrentLinkedListQueue queue = new ConcurrentLinkedListQueue();
+        queue.setListener(QueueListener.CONSOLE);
+
+        System.out.println("--- Single-threaded Operations ---");
+        queue.enqueue(100);
+        queue.enqueue(200);
+        queue.enqueue(300);
+        queue.display();
+        System.out.println("Queue size: " + queue.getSize());
+        System.out.println("Front element (Peek): " + queue.peek());
+        queue.dequeue();
+        queue.search(300);
+        queue.search(100);
+        queue.dequeue();
+        queue.dequeue();
+        queue.dequeue();
+
+        System.out.println("\n--- Four Producer Threads, Four Consumer Threads ---");
+        final int threads = 4;
+        final int perProducer = 500_000;
+        final ConcurrentLinkedListQueue shared = new ConcurrentLinkedListQueue();
+        final AtomicLong checksum = new AtomicLong();
+        Thread[] workers = new Thread[threads * 2];
+
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    shared.enqueue(i);
+                }
+            });
+            workers[threads + t] = new Thread(() -> {
+                long sum = 0;
+                for (int i = 0; i < perProducer; i++) {
+                    int element;
+                    while ((element = shared.dequeue()) == -1) {
+                        Thread.yield();
+                    }
+                    sum += element;
+                }
+                checksum.addAndGet(sum);
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long expected = (long) threads * perProducer * (perProducer + 1) / 2;
+        System.out.println("Transferred " + (threads * perProducer) + " elements, checksum "
+                + (checksum.get() == expected ? "OK" : "MISMATCH"));
+        System.out.println("Queue empty afterwards: " + shared.isEmpty() + ", size: " + shared.getSize());
+        System.out.printf("Throughput: %.1f million ops/sec%n", threads * perProducer / (elapsed / 1000.0));
+    }
+}
@@ -0,0 +1,152 @@
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Deficit round robin across submitters with a page budget per turn.
+ * 
+ * Submitters with queued jobs take turns. On each turn a submitter's deficit
+ * grows by the quantum (in pages), and it may print jobs from the front of its
+ * own FIFO as long as their pages fit in the deficit; unused budget carries to
+ * its next turn. Over time every active submitter prints about the same number
+ * of pages, however many jobs it queues, and a large job only has to wait for
+ * its owner to save up enough turns.
+ * 
+ * add is O(1); poll is O(1) per submitter skipped.
+ */
+public class DeficitRoundRobinScheduler implements JobScheduler {
+
+    // Default page budget added to a submitter's deficit on each turn
+    public static final int DEFAULT_QUANTUM = 10;
+
+    // One submitter's jobs and unspent page budget
+    private static class Flow {
+        final ArrayDeque<PrinterJobQueue.PrintJob> jobs = new ArrayDeque<>();
+        long deficit;
+    }
+
+    private final Map<String, Flow> flows = new HashMap<>();
+    // Submitters with queued jobs; the first one is taking its turn
+    private final ArrayDeque<Flow> active = new ArrayDeque<>();
+    private final int quantum;
+    private int size;
+
+    // Constructor
+    public DeficitRoundRobinScheduler() {
+        this(DEFAULT_QUANTUM);
+    }
+
+    /**
+     * Create a scheduler with a custom page budget per turn
+     * 
+     * @param quantum pages added to a submitter's budget on each turn
+     */
+    public DeficitRoundRobinScheduler(int quantum) {
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("Quantum must be positive: " + quantum);
+        }
+        this.quantum = quantum;
+    }
+
+    /**
+     * Add a job to its submitter's FIFO
+     * Time Complexity: O(1)
+     */
+    @Override
+    public void add(PrinterJobQueue.PrintJob job) {
+        Flow flow = flows.computeIfAbsent(job.submitter, name -> new Flow());
+        if (flow.jobs.isEmpty()) {
+            active.addLast(flow);
+            if (active.size() == 1) {
+                // Only active submitter: its turn starts now
+                flow.deficit = quantum;
+            }
+        }
+        flow.jobs.addLast(job);
+        size++;
+    }
+
+    /**
+     * Remove the next job in round-robin order
+     * Time Complexity: O(1) per submitter whose budget is too small this turn
+     */
+    @Override
+    public PrinterJobQueue.PrintJob poll() {
+        if (size == 0) {
+            return null;
+        }
+        while (true) {
+            Flow flow = active.peekFirst();
+            PrinterJobQueue.PrintJob job = flow.jobs.peekFirst();
+            if (job.pages <= flow.deficit) {
+                flow.jobs.pollFirst();
+                flow.deficit -= job.pages;
+                size--;
+                if (flow.jobs.isEmpty()) {
+                    // An idle submitter does not bank budget
+                    flow.deficit = 0;
+                    active.pollFirst();
+                    startNextTurn();
+                }
+                return job;
+            }
+            // Budget exhausted for this turn; move to the back of the line
+            active.addLast(active.pollFirst());
+            startNextTurn();
+        }
+    }
+
+    private void startNextTurn() {
+        Flow next = active.peekFirst();
+        if (next != null) {
+            next.deficit += quantum;
+        }
+    }
+
+    /**
+     * Return the job poll would return, computed without changing any budgets
+     * Time Complexity: O(number of active submitters)
+     */
+    @Override
+    public PrinterJobQueue.PrintJob peek() {
+        if (size == 0) {
+            return null;
+        }
+        int flowsInRound = active.size();
+        PrinterJobQueue.PrintJob best = null;
+        long bestTurn = Long.MAX_VALUE;
+        int position = 0;
+        for (Flow flow : active) {
+            PrinterJobQueue.PrintJob job = flow.jobs.peekFirst();
+            // Budget this submitter will have at its next turn, before extra rounds
+            long budget = flow.deficit + (position == 0 ? 0 : quantum);
+            long shortfall = job.pages - budget;
+            long rounds = shortfall <= 0 ? 0 : (shortfall + quantum - 1) / quantum;
+            long turn = rounds * flowsInRound + position;
+            if (turn < bestTurn) {
+                bestTurn = turn;
+                best = job;
+            }
+            position++;
+        }
+        return best;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Visit jobs submitter by submitter, starting with the one taking its turn
+     */
+    @Override
+    public void forEachJob(Consumer<PrinterJobQueue.PrintJob> action) {
+        for (Flow flow : active) {
+            for (PrinterJobQueue.PrintJob job : flow.jobs) {
+                action.accept(job);
+            }
+        }
+    }
+}
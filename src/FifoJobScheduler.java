@@ -0,0 +1,78 @@
+import java.util.function.Consumer;
+
+/**
+ * First-in, first-out scheduling: jobs print in the order they were added.
+ * This is PrinterJobQueue's default.
+ */
+public class FifoJobScheduler implements JobScheduler {
+
+    // Node class for linked list representation
+    private static class Node {
+        PrinterJobQueue.PrintJob job;
+        Node next;
+
+        Node(PrinterJobQueue.PrintJob job) {
+            this.job = job;
+            this.next = null;
+        }
+    }
+
+    private Node front;
+    private Node rear;
+    private int size;
+
+    /**
+     * Add a job to the rear
+     * Time Complexity: O(1)
+     */
+    @Override
+    public void add(PrinterJobQueue.PrintJob job) {
+        Node newNode = new Node(job);
+
+        if (rear == null) {
+            front = newNode;
+            rear = newNode;
+        } else {
+            rear.next = newNode;
+            rear = newNode;
+        }
+        size++;
+    }
+
+    /**
+     * Remove the job at the front
+     * Time Complexity: O(1)
+     */
+    @Override
+    public PrinterJobQueue.PrintJob poll() {
+        if (front == null) {
+            return null;
+        }
+
+        PrinterJobQueue.PrintJob job = front.job;
+        front = front.next;
+        size--;
+
+        if (front == null) {
+            rear = null;
+        }
+        return job;
+    }
+
+    @Override
+    public PrinterJobQueue.PrintJob peek() {
+        return front == null ? null : front.job;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void forEachJob(Consumer<PrinterJobQueue.PrintJob> action) {
+        for (Node current = front; current != null; current = current.next) {
+            action.accept(current.job);
+        }
+    }
+}
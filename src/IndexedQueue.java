@@ -0,0 +1,356 @@
+/**
+ * Unbounded FIFO queue of ints that keeps a hash index of its contents, so
+ * contains, count and position queries are O(1) instead of a full scan.
+ * 
+ * Elements live in a power-of-two ring addressed by ever-increasing sequence
+ * numbers (position = sequence - head). The index is an open-addressing,
+ * linear-probing table from each distinct value to its number of occurrences
+ * and the sequence numbers of its first and last occurrence. A parallel ring
+ * links each occurrence to the next occurrence of the same value, so when the
+ * first occurrence is dequeued the next one is found without searching.
+ * Removed keys use backward-shift deletion, so the table has no tombstones.
+ */
+public class IndexedQueue {
+    private static final int INITIAL_CAPACITY = 16;
+    // Marks the last occurrence of a value in the next-occurrence chain
+    private static final long NONE = -1;
+
+    // Ring of elements and, for each slot, the sequence of the next equal element
+    private int[] elements = new int[INITIAL_CAPACITY];
+    private long[] nextOccurrence = new long[INITIAL_CAPACITY];
+    private long head;
+    private long tail;
+
+    // Index table; a slot is free when its count is 0
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private long[] firstSequence = new long[INITIAL_CAPACITY];
+    private long[] lastSequence = new long[INITIAL_CAPACITY];
+    private int distinct;
+
+    private QueueListener listener = QueueListener.NO_OP;
+
+    // Table slot where a key's probe sequence starts (Fibonacci hashing)
+    private int home(int key) {
+        return (key * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(keys.length - 1);
+    }
+
+    // Slot holding key, or -1 if the key is not in the queue
+    private int find(int key) {
+        int mask = keys.length - 1;
+        for (int slot = home(key); counts[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Enqueue - Add an element to the rear of the queue
+     * Time Complexity: O(1) amortized
+     * 
+     * @param element the element to be added
+     */
+    public void enqueue(int element) {
+        if (tail - head == elements.length) {
+            growRing();
+        }
+        int ringMask = elements.length - 1;
+        int position = (int) tail & ringMask;
+        elements[position] = element;
+        nextOccurrence[position] = NONE;
+
+        int slot = find(element);
+        if (slot >= 0) {
+            // Chain the previous last occurrence to this one
+            nextOccurrence[(int) lastSequence[slot] & ringMask] = tail;
+            lastSequence[slot] = tail;
+            counts[slot]++;
+        } else {
+            if ((distinct + 1) * 2 > keys.length) {
+                growTable();
+            }
+            int mask = keys.length - 1;
+            slot = home(element);
+            while (counts[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = element;
+            counts[slot] = 1;
+            firstSequence[slot] = tail;
+            lastSequence[slot] = tail;
+            distinct++;
+        }
+        tail++;
+        listener.onEnqueue(element);
+    }
+
+    /**
+     * Dequeue - Remove and return the front element from the queue
+     * Time Complexity: O(1)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int dequeue() {
+        if (tail == head) {
+            listener.onDequeueEmpty();
+            return -1;
+        }
+        int position = (int) head & (elements.length - 1);
+        int element = elements[position];
+        int slot = find(element);
+        if (--counts[slot] == 0) {
+            removeSlot(slot);
+        } else {
+            firstSequence[slot] = nextOccurrence[position];
+        }
+        head++;
+        listener.onDequeue(element);
+        return element;
+    }
+
+    /**
+     * Peek - View the front element without removing it
+     * Time Complexity: O(1)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int peek() {
+        if (tail == head) {
+            listener.onPeekEmpty();
+            return -1;
+        }
+        return elements[(int) head & (elements.length - 1)];
+    }
+
+    /**
+     * Check whether an element is in the queue
+     * Time Complexity: O(1) expected
+     * 
+     * @param element the element to look for
+     * @return true if the element is in the queue
+     */
+    public boolean contains(int element) {
+        return find(element) >= 0;
+    }
+
+    /**
+     * Search for an element in the queue, notifying the listener like LinkedListQueue.search
+     * Time Complexity: O(1) expected
+     * 
+     * @param element the element to search for
+     * @return true if element is found, false otherwise
+     */
+    public boolean search(int element) {
+        boolean found = contains(element);
+        listener.onSearch(element, found);
+        return found;
+    }
+
+    /**
+     * Count the occurrences of an element
+     * Time Complexity: O(1) expected
+     * 
+     * @param element the element to count
+     * @return the number of times the element is in the queue
+     */
+    public int count(int element) {
+        int slot = find(element);
+        return slot < 0 ? 0 : counts[slot];
+    }
+
+    /**
+     * Get the position of the first occurrence of an element (0 is the front)
+     * Time Complexity: O(1) expected
+     * 
+     * @param element the element to find
+     * @return position if found, -1 otherwise
+     */
+    public int position(int element) {
+        int slot = find(element);
+        return slot < 0 ? -1 : (int) (firstSequence[slot] - head);
+    }
+
+    /**
+     * Get the position of the last occurrence of an element, which is what
+     * QueueSearch.findPosition reports
+     * Time Complexity: O(1) expected
+     * 
+     * @param element the element to find
+     * @return position if found, -1 otherwise
+     */
+    public int lastPosition(int element) {
+        int slot = find(element);
+        return slot < 0 ? -1 : (int) (lastSequence[slot] - head);
+    }
+
+    /**
+     * Get the number of distinct elements in the queue
+     * 
+     * @return the number of distinct values
+     */
+    public int getDistinctCount() {
+        return distinct;
+    }
+
+    // Delete a table slot, shifting later entries of the probe run back into the gap
+    private void removeSlot(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; counts[next] != 0; next = (next + 1) & mask) {
+            int wanted = home(keys[next]);
+            // Move the entry unless its home lies cyclically in (gap, next]
+            if (((next - wanted) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                counts[gap] = counts[next];
+                firstSequence[gap] = firstSequence[next];
+                lastSequence[gap] = lastSequence[next];
+                gap = next;
+            }
+        }
+        counts[gap] = 0;
+        distinct--;
+    }
+
+    // Double the ring; elements keep their sequence numbers, so the index stays valid
+    private void growRing() {
+        int newLength = elements.length * 2;
+        if (newLength < 0) {
+            throw new IllegalStateException("Queue is too large");
+        }
+        int[] newElements = new int[newLength];
+        long[] newNext = new long[newLength];
+        int oldMask = elements.length - 1;
+        int newMask = newLength - 1;
+        for (long sequence = head; sequence < tail; sequence++) {
+            newElements[(int) sequence & newMask] = elements[(int) sequence & oldMask];
+            newNext[(int) sequence & newMask] = nextOccurrence[(int) sequence & oldMask];
+        }
+        elements = newElements;
+        nextOccurrence = newNext;
+    }
+
+    // Double the index table and reinsert every key
+    private void growTable() {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        long[] oldFirst = firstSequence;
+        long[] oldLast = lastSequence;
+        int newLength = keys.length * 2;
+        keys = new int[newLength];
+        counts = new int[newLength];
+        firstSequence = new long[newLength];
+        lastSequence = new long[newLength];
+        int mask = newLength - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldCounts[i] != 0) {
+                int slot = home(oldKeys[i]);
+                while (counts[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+                firstSequence[slot] = oldFirst[i];
+                lastSequence[slot] = oldLast[i];
+            }
+        }
+    }
+
+    /**
+     * Attach a listener that is notified of enqueue/dequeue/search events
+     * 
+     * @param listener the listener to notify, or null to remove it
+     */
+    public void setListener(QueueListener listener) {
+        this.listener = listener == null ? QueueListener.NO_OP : listener;
+    }
+
+    /**
+     * Check if the queue is empty
+     * 
+     * @return true if queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return tail == head;
+    }
+
+    /**
+     * Get the current size of the queue
+     * 
+     * @return the number of elements in the queue
+     */
+    public int getSize() {
+        return (int) (tail - head);
+    }
+
+    /**
+     * Display all elements in the queue
+     * Time Complexity: O(n)
+     */
+    public void display() {
+        if (tail == head) {
+            System.out.println("Queue is empty!");
+            return;
+        }
+        System.out.print("Queue elements (front to rear): ");
+        for (long i = head; i < tail; i++) {
+            System.out.print(elements[(int) i & (elements.length - 1)] + " ");
+        }
+        System.out.println();
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("=== Indexed Queue (O(1) Search) ===\n");
+
+        IndexedQueue queue = new IndexedQueue();
+        queue.setListener(QueueListener.CONSOLE);
+
+        System.out.println("--- Enqueue Operations ---");
+        int[] values = {10, 20, 10, 30, 10, 40};
+        for (int value : values) {
+            queue.enqueue(value);
+        }
+        queue.display();
+
+        System.out.println("\n--- Queries ---");
+        queue.search(30);
+        queue.search(99);
+        System.out.println("Count of 10: " + queue.count(10));
+        System.out.println("First position of 10: " + queue.position(10));
+        System.out.println("Last position of 10: " + queue.lastPosition(10));
+        System.out.println("Position of 99: " + queue.position(99));
+        System.out.println("Distinct values: " + queue.getDistinctCount());
+
+        System.out.println("\n--- After Two Dequeues ---");
+        queue.dequeue();
+        queue.dequeue();
+        queue.display();
+        System.out.println("Count of 10: " + queue.count(10));
+        System.out.println("First position of 10: " + queue.position(10));
+        System.out.println("Contains 20: " + queue.contains(20));
+
+        System.out.println("\n--- Large Queue: count lookups ---");
+        IndexedQueue large = new IndexedQueue();
+        LinkedListQueue plain = new LinkedListQueue();
+        for (int i = 0; i < 200_000; i++) {
+            large.enqueue(i % 1000);
+            plain.enqueue(i % 1000);
+        }
+        long start = System.nanoTime();
+        long found = 0;
+        for (int i = 0; i < 1000; i++) {
+            found += large.count(i * 7 % 2000);
+        }
+        long indexed = System.nanoTime() - start;
+        start = System.nanoTime();
+        long scanned = 0;
+        for (int i = 0; i < 1000; i++) {
+            scanned += plain.search(i * 7 % 2000) ? 1 : 0;
+        }
+        long scan = System.nanoTime() - start;
+        System.out.println("1000 indexed count() calls: " + found + " occurrences in " + indexed / 1000 + " us");
+        System.out.println("1000 LinkedListQueue.search() scans: " + scanned + " hits in " + scan / 1000 + " us");
+    }
+}
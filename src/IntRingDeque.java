@@ -0,0 +1,333 @@
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Growable circular deque of ints with an O(1) logical reverse.
+ * 
+ * The elements sit in a power-of-two ring. A reversed flag records which end
+ * of the ring is the logical front: reverse() just flips it, and every
+ * operation maps its logical end (or index) onto the physical one. Reading
+ * the deque backwards therefore needs no mutation and no copying.
+ */
+public class IntRingDeque {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] elements;
+    // Physical index of the first element in ring order
+    private int head;
+    private int size;
+    // When true, the logical front is the physical last element
+    private boolean reversed;
+    private QueueListener listener = QueueListener.NO_OP;
+
+    // Constructor
+    public IntRingDeque() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Create a deque with room for at least the given number of elements before it grows
+     * 
+     * @param initialCapacity expected number of elements
+     */
+    public IntRingDeque(int initialCapacity) {
+        if (initialCapacity <= 0 || initialCapacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + initialCapacity);
+        }
+        int capacity = Integer.highestOneBit(initialCapacity);
+        this.elements = new int[capacity == initialCapacity ? capacity : capacity << 1];
+    }
+
+    // Physical slot of the element at ring-order offset i
+    private int slot(int i) {
+        return (head + i) & (elements.length - 1);
+    }
+
+    private void growIfFull() {
+        if (size < elements.length) {
+            return;
+        }
+        if (elements.length == 1 << 30) {
+            throw new IllegalStateException("Deque is too large");
+        }
+        int[] grown = new int[elements.length << 1];
+        int firstLength = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstLength);
+        System.arraycopy(elements, 0, grown, firstLength, size - firstLength);
+        elements = grown;
+        head = 0;
+    }
+
+    // Physical end operations (ring order, ignoring the reversed flag)
+
+    private void pushRingFirst(int element) {
+        growIfFull();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = element;
+        size++;
+    }
+
+    private void pushRingLast(int element) {
+        growIfFull();
+        elements[slot(size)] = element;
+        size++;
+    }
+
+    private int popRingFirst() {
+        int element = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return element;
+    }
+
+    private int popRingLast() {
+        size--;
+        return elements[slot(size)];
+    }
+
+    /**
+     * Add an element at the front
+     * Time Complexity: O(1) amortized
+     * 
+     * @param element the element to be added
+     */
+    public void addFirst(int element) {
+        if (reversed) {
+            pushRingLast(element);
+        } else {
+            pushRingFirst(element);
+        }
+    }
+
+    /**
+     * Add an element at the rear
+     * Time Complexity: O(1) amortized
+     * 
+     * @param element the element to be added
+     */
+    public void addLast(int element) {
+        if (reversed) {
+            pushRingFirst(element);
+        } else {
+            pushRingLast(element);
+        }
+    }
+
+    /**
+     * Remove and return the front element
+     * Time Complexity: O(1)
+     * 
+     * @return the front element
+     * @throws NoSuchElementException if the deque is empty
+     */
+    public int removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        return reversed ? popRingLast() : popRingFirst();
+    }
+
+    /**
+     * Remove and return the rear element
+     * Time Complexity: O(1)
+     * 
+     * @return the rear element
+     * @throws NoSuchElementException if the deque is empty
+     */
+    public int removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        return reversed ? popRingFirst() : popRingLast();
+    }
+
+    /**
+     * Get an element by its position without removing it
+     * Time Complexity: O(1)
+     * 
+     * @param position 0 for the front element, getSize() - 1 for the rear
+     * @return the element at that position
+     * @throws IndexOutOfBoundsException if position is outside the deque
+     */
+    public int get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of bounds for size " + size);
+        }
+        return elements[slot(reversed ? size - 1 - position : position)];
+    }
+
+    /**
+     * Enqueue - Add an element to the rear of the queue
+     * Time Complexity: O(1) amortized
+     * 
+     * @param element the element to be added
+     */
+    public void enqueue(int element) {
+        addLast(element);
+        listener.onEnqueue(element);
+    }
+
+    /**
+     * Dequeue - Remove and return the front element from the queue
+     * Time Complexity: O(1)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int dequeue() {
+        if (size == 0) {
+            listener.onDequeueEmpty();
+            return -1;
+        }
+        int element = removeFirst();
+        listener.onDequeue(element);
+        return element;
+    }
+
+    /**
+     * Peek - View the front element without removing it
+     * Time Complexity: O(1)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int peek() {
+        if (size == 0) {
+            listener.onPeekEmpty();
+            return -1;
+        }
+        return get(0);
+    }
+
+    /**
+     * Reverse the order of the elements by swapping the read direction
+     * Time Complexity: O(1)
+     */
+    public void reverse() {
+        reversed = !reversed;
+    }
+
+    /**
+     * Iterate from front to rear without removing anything
+     * 
+     * @return an iterator over primitive ints (no boxing)
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new Cursor(!reversed);
+    }
+
+    /**
+     * Iterate from rear to front without removing anything
+     * 
+     * @return an iterator over primitive ints (no boxing)
+     */
+    public PrimitiveIterator.OfInt descendingIterator() {
+        return new Cursor(reversed);
+    }
+
+    // Walks the ring in ring order (forward) or against it
+    private class Cursor implements PrimitiveIterator.OfInt {
+        private final boolean forward;
+        private int visited;
+
+        Cursor(boolean forward) {
+            this.forward = forward;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return visited < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (visited >= size) {
+                throw new NoSuchElementException();
+            }
+            int offset = forward ? visited : size - 1 - visited;
+            visited++;
+            return elements[slot(offset)];
+        }
+    }
+
+    /**
+     * Attach a listener that is notified of enqueue/dequeue events
+     * 
+     * @param listener the listener to notify, or null to remove it
+     */
+    public void setListener(QueueListener listener) {
+        this.listener = listener == null ? QueueListener.NO_OP : listener;
+    }
+
+    /**
+     * Check if the deque is empty
+     * 
+     * @return true if deque is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get the current size of the deque
+     * 
+     * @return the number of elements in the deque
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Display all elements from front to rear
+     * Time Complexity: O(n)
+     */
+    public void display() {
+        if (size == 0) {
+            System.out.println("Queue is empty!");
+            return;
+        }
+        System.out.print("Queue elements (front to rear): ");
+        for (int i = 0; i < size; i++) {
+            System.out.print(get(i) + " ");
+        }
+        System.out.println();
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("=== Ring Deque with O(1) Reverse ===\n");
+
+        IntRingDeque deque = new IntRingDeque(4);
+        deque.setListener(QueueListener.CONSOLE);
+
+        System.out.println("--- Enqueue Operations ---");
+        for (int i = 1; i <= 5; i++) {
+            deque.enqueue(i * 10);
+        }
+        deque.display();
+
+        System.out.println("\n--- Reverse (flag flip, no copying) ---");
+        deque.reverse();
+        deque.display();
+        deque.dequeue();
+        deque.enqueue(60);
+        deque.display();
+
+        System.out.println("\n--- Reverse Again ---");
+        deque.reverse();
+        deque.display();
+
+        System.out.println("\n--- Deque Operations ---");
+        deque.addFirst(5);
+        deque.addLast(99);
+        deque.display();
+        System.out.println("removeLast: " + deque.removeLast() + ", removeFirst: " + deque.removeFirst());
+
+        System.out.print("\nDescending iterator: ");
+        for (PrimitiveIterator.OfInt it = deque.descendingIterator(); it.hasNext(); ) {
+            System.out.print(it.nextInt() + " ");
+        }
+        System.out.print("\nQueueRecursion.printReverse: ");
+        QueueRecursion.printReverse(deque);
+        System.out.println();
+        deque.display();
+    }
+}
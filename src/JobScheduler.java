@@ -0,0 +1,45 @@
+import java.util.function.Consumer;
+
+/**
+ * Decides the order in which PrinterJobQueue hands out its print jobs.
+ * 
+ * PrinterJobQueue keeps no jobs of its own; it stores them in a scheduler and
+ * asks it for the next one. Implementations are not thread-safe.
+ */
+public interface JobScheduler {
+
+    /**
+     * Store a job until it is selected
+     * 
+     * @param job the job to store
+     */
+    void add(PrinterJobQueue.PrintJob job);
+
+    /**
+     * Remove and return the job that should print next
+     * 
+     * @return the next job or null if there are none
+     */
+    PrinterJobQueue.PrintJob poll();
+
+    /**
+     * Return the job that poll would return, without removing it
+     * 
+     * @return the next job or null if there are none
+     */
+    PrinterJobQueue.PrintJob peek();
+
+    /**
+     * Get the number of stored jobs
+     * 
+     * @return number of jobs
+     */
+    int size();
+
+    /**
+     * Visit every stored job, in service order where the scheduler can tell it cheaply
+     * 
+     * @param action the action to run for each job
+     */
+    void forEachJob(Consumer<PrinterJobQueue.PrintJob> action);
+}
@@ -1,7 +1,16 @@
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
 public class LinkedListQueue {
 
+    // Default number of drained segments kept for reuse in chunked mode
+    private static final int DEFAULT_MAX_POOLED_SEGMENTS = 4;
+
     // Node class for linked list representation
-    private class Node {
+    private static class Node {
         int data;
         Node next;
 
@@ -11,15 +20,89 @@ public class LinkedListQueue {
         }
     }
 
+    // Segment class for the unrolled (chunked) representation
+    private static class Segment {
+        final int[] data;
+        int head;  // index of the first element
+        int tail;  // index one past the last element
+        Segment next;
+
+        Segment(int chunkSize) {
+            this.data = new int[chunkSize];
+        }
+    }
+
     private Node front;
     private Node rear;
     private int size;
+    private QueueListener listener = QueueListener.NO_OP;
+
+    // Chunked mode state (chunkSize == 0 means one Node per element)
+    private final int chunkSize;
+    private final int maxPooledSegments;
+    private Segment frontSegment;
+    private Segment rearSegment;
+    private Segment freeSegments;
+    private int pooledSegments;
 
     // Constructor
     public LinkedListQueue() {
         this.front = null;
         this.rear = null;
         this.size = 0;
+        this.chunkSize = 0;
+        this.maxPooledSegments = 0;
+    }
+
+    /**
+     * Create an unrolled linked list queue: each link holds a chunk of elements,
+     * so the queue allocates once per chunkSize enqueues instead of once per element
+     * 
+     * @param chunkSize number of elements per segment (e.g. 64 to 1024)
+     */
+    public LinkedListQueue(int chunkSize) {
+        this(chunkSize, DEFAULT_MAX_POOLED_SEGMENTS);
+    }
+
+    /**
+     * Create an unrolled linked list queue with a bounded pool of drained segments
+     * 
+     * @param chunkSize number of elements per segment (e.g. 64 to 1024)
+     * @param maxPooledSegments how many drained segments to keep for reuse
+     */
+    public LinkedListQueue(int chunkSize, int maxPooledSegments) {
+        if (chunkSize < 2) {
+            throw new IllegalArgumentException("Chunk size must be at least 2: " + chunkSize);
+        }
+        if (maxPooledSegments < 0) {
+            throw new IllegalArgumentException("Pool size cannot be negative: " + maxPooledSegments);
+        }
+        this.size = 0;
+        this.chunkSize = chunkSize;
+        this.maxPooledSegments = maxPooledSegments;
+    }
+
+    // Take a segment from the free list, or allocate one if the pool is empty
+    private Segment obtainSegment() {
+        Segment segment = freeSegments;
+        if (segment == null) {
+            return new Segment(chunkSize);
+        }
+        freeSegments = segment.next;
+        pooledSegments--;
+        segment.next = null;
+        return segment;
+    }
+
+    // Return a drained segment to the free list, or drop it if the pool is full
+    private void recycleSegment(Segment segment) {
+        if (pooledSegments < maxPooledSegments) {
+            segment.head = 0;
+            segment.tail = 0;
+            segment.next = freeSegments;
+            freeSegments = segment;
+            pooledSegments++;
+        }
     }
 
     /**
@@ -29,6 +112,10 @@ public class LinkedListQueue {
      * @param element the element to be added
      */
     public void enqueue(int element) {
+        if (chunkSize > 0) {
+            enqueueChunked(element);
+            return;
+        }
         Node newNode = new Node(element);
         
         if (rear == null) {
@@ -41,7 +128,24 @@ public class LinkedListQueue {
             rear = newNode;
         }
         size++;
-        System.out.println("Enqueued: " + element);
+        listener.onEnqueue(element);
+    }
+
+    private void enqueueChunked(int element) {
+        Segment segment = rearSegment;
+        if (segment == null) {
+            segment = obtainSegment();
+            frontSegment = segment;
+            rearSegment = segment;
+        } else if (segment.tail == segment.data.length) {
+            // Rear chunk is full; link a new one
+            segment = obtainSegment();
+            rearSegment.next = segment;
+            rearSegment = segment;
+        }
+        segment.data[segment.tail++] = element;
+        size++;
+        listener.onEnqueue(element);
     }
 
     /**
@@ -51,10 +155,13 @@ public class LinkedListQueue {
      * @return the front element or -1 if queue is empty
      */
     public int dequeue() {
-        if (front == null) {
-            System.out.println("Queue is empty! Cannot dequeue.");
+        if (size == 0) {
+            listener.onDequeueEmpty();
             return -1;
         }
+        if (chunkSize > 0) {
+            return dequeueChunked();
+        }
 
         int element = front.data;
         front = front.next;
@@ -65,7 +172,25 @@ public class LinkedListQueue {
             rear = null;
         }
 
-        System.out.println("Dequeued: " + element);
+        listener.onDequeue(element);
+        return element;
+    }
+
+    private int dequeueChunked() {
+        Segment segment = frontSegment;
+        int element = segment.data[segment.head++];
+        size--;
+        if (segment.head == segment.tail) {
+            if (segment == rearSegment) {
+                // Last chunk: rewind it in place rather than freeing it
+                segment.head = 0;
+                segment.tail = 0;
+            } else {
+                frontSegment = segment.next;
+                recycleSegment(segment);
+            }
+        }
+        listener.onDequeue(element);
         return element;
     }
 
@@ -76,13 +201,25 @@ public class LinkedListQueue {
      * @return the front element or -1 if queue is empty
      */
     public int peek() {
-        if (front == null) {
-            System.out.println("Queue is empty!");
+        if (size == 0) {
+            listener.onPeekEmpty();
             return -1;
         }
+        if (chunkSize > 0) {
+            return frontSegment.data[frontSegment.head];
+        }
         return front.data;
     }
 
+    /**
+     * Attach a listener that is notified of enqueue/dequeue/search events
+     * 
+     * @param listener the listener to notify, or null to remove it
+     */
+    public void setListener(QueueListener listener) {
+        this.listener = listener == null ? QueueListener.NO_OP : listener;
+    }
+
     /**
      * Check if the queue is empty
      * 
@@ -106,16 +243,24 @@ public class LinkedListQueue {
      * Time Complexity: O(n)
      */
     public void display() {
-        if (front == null) {
+        if (size == 0) {
             System.out.println("Queue is empty!");
             return;
         }
 
         System.out.print("Queue elements (front to rear): ");
-        Node current = front;
-        while (current != null) {
-            System.out.print(current.data + " ");
-            current = current.next;
+        if (chunkSize > 0) {
+            for (Segment segment = frontSegment; segment != null; segment = segment.next) {
+                for (int i = segment.head; i < segment.tail; i++) {
+                    System.out.print(segment.data[i] + " ");
+                }
+            }
+        } else {
+            Node current = front;
+            while (current != null) {
+                System.out.print(current.data + " ");
+                current = current.next;
+            }
         }
         System.out.println();
     }
@@ -128,23 +273,274 @@ public class LinkedListQueue {
      * @return true if element is found, false otherwise
      */
     public boolean search(int element) {
+        if (chunkSize > 0) {
+            for (Segment segment = frontSegment; segment != null; segment = segment.next) {
+                for (int i = segment.head; i < segment.tail; i++) {
+                    if (segment.data[i] == element) {
+                        listener.onSearch(element, true);
+                        return true;
+                    }
+                }
+            }
+            listener.onSearch(element, false);
+            return false;
+        }
         Node current = front;
         while (current != null) {
             if (current.data == element) {
-                System.out.println("Element " + element + " found in queue");
+                listener.onSearch(element, true);
                 return true;
             }
             current = current.next;
         }
-        System.out.println("Element " + element + " not found in queue");
+        listener.onSearch(element, false);
         return false;
     }
 
+    /**
+     * Reverse the order of the elements in place
+     * Node mode re-points every next link; chunked mode reverses the chain of
+     * chunks and the elements inside each chunk
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     */
+    public void reverse() {
+        if (chunkSize > 0) {
+            Segment previous = null;
+            Segment current = frontSegment;
+            while (current != null) {
+                for (int i = current.head, j = current.tail - 1; i < j; i++, j--) {
+                    int temp = current.data[i];
+                    current.data[i] = current.data[j];
+                    current.data[j] = temp;
+                }
+                Segment next = current.next;
+                current.next = previous;
+                previous = current;
+                current = next;
+            }
+            rearSegment = frontSegment;
+            frontSegment = previous;
+            return;
+        }
+        Node previous = null;
+        Node current = front;
+        while (current != null) {
+            Node next = current.next;
+            current.next = previous;
+            previous = current;
+            current = next;
+        }
+        rear = front;
+        front = previous;
+    }
+
+    /**
+     * Concatenate - Move every element of another queue to the rear of this one,
+     * leaving the other queue empty. The other queue's chain of nodes (or chunks)
+     * is linked onto this queue's rear, so nothing is copied or allocated.
+     * Queues of different modes (node vs chunked) fall back to moving elements one at a time.
+     * Time Complexity: O(1) (O(m) when a listener is attached or the modes differ)
+     * 
+     * @param other the queue whose elements are moved
+     */
+    public void concat(LinkedListQueue other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot concatenate a queue with itself");
+        }
+        if (other.size == 0) {
+            return;
+        }
+        if ((chunkSize > 0) != (other.chunkSize > 0)) {
+            while (!other.isEmpty()) {
+                enqueue(other.dequeue());
+            }
+            return;
+        }
+        if (listener != QueueListener.NO_OP || other.listener != QueueListener.NO_OP) {
+            for (PrimitiveIterator.OfInt elements = other.iterator(); elements.hasNext(); ) {
+                int element = elements.nextInt();
+                other.listener.onDequeue(element);
+                listener.onEnqueue(element);
+            }
+        }
+        if (chunkSize > 0) {
+            if (size == 0) {
+                // Only a rewound, empty chunk (if any) is left here; swap in the other chain
+                if (frontSegment != null) {
+                    recycleSegment(frontSegment);
+                }
+                frontSegment = other.frontSegment;
+            } else {
+                // The partly filled rear chunk simply stays in the middle of the chain
+                rearSegment.next = other.frontSegment;
+            }
+            rearSegment = other.rearSegment;
+            other.frontSegment = null;
+            other.rearSegment = null;
+        } else {
+            if (rear == null) {
+                front = other.front;
+            } else {
+                rear.next = other.front;
+            }
+            rear = other.rear;
+            other.front = null;
+            other.rear = null;
+        }
+        size += other.size;
+        other.size = 0;
+    }
+
+    /**
+     * Iterate over the elements from front to rear without removing them
+     * The iterator must not be used after the queue is modified
+     * 
+     * @return an iterator over primitive ints (no boxing)
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        if (chunkSize > 0) {
+            return new PrimitiveIterator.OfInt() {
+                private Segment segment = frontSegment;
+                private int index = frontSegment == null ? 0 : frontSegment.head;
+                private int remaining = size;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    if (index == segment.tail) {
+                        segment = segment.next;
+                        index = segment.head;
+                    }
+                    remaining--;
+                    return segment.data[index++];
+                }
+            };
+        }
+        return new PrimitiveIterator.OfInt() {
+            private Node current = front;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                int element = current.data;
+                current = current.next;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Create a spliterator over the elements from front to rear, for streams
+     * and parallel algorithms. A chunked queue splits at chunk boundaries;
+     * a node queue splits by copying batches into arrays.
+     * The queue must not be modified while the spliterator is in use.
+     * 
+     * @return a sized spliterator over the elements
+     */
+    public Spliterator.OfInt spliterator() {
+        if (chunkSize > 0) {
+            return new ChunkSpliterator(frontSegment, frontSegment == null ? 0 : frontSegment.head, size);
+        }
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    // Covers remaining elements starting at index of segment
+    private static class ChunkSpliterator implements Spliterator.OfInt {
+        private Segment segment;
+        private int index;
+        private long remaining;
+
+        ChunkSpliterator(Segment segment, int index, long remaining) {
+            this.segment = segment;
+            this.index = index;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (remaining <= 1 || segment == null) {
+                return null;
+            }
+            // Hand out whole chunks from the front until about half is covered
+            long half = remaining / 2;
+            long taken = segment.tail - index;
+            Segment boundary = segment.next;
+            while (boundary != null && taken < half) {
+                taken += boundary.tail - boundary.head;
+                boundary = boundary.next;
+            }
+            if (boundary == null || taken >= remaining) {
+                return null;
+            }
+            Spliterator.OfInt prefix = new ChunkSpliterator(segment, index, taken);
+            segment = boundary;
+            index = boundary.head;
+            remaining -= taken;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (remaining == 0) {
+                return false;
+            }
+            if (index == segment.tail) {
+                segment = segment.next;
+                index = segment.head;
+            }
+            remaining--;
+            action.accept(segment.data[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (remaining > 0) {
+                if (index == segment.tail) {
+                    segment = segment.next;
+                    index = segment.head;
+                }
+                int run = (int) Math.min(remaining, segment.tail - index);
+                for (int i = index; i < index + run; i++) {
+                    action.accept(segment.data[i]);
+                }
+                index += run;
+                remaining -= run;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
     // Main method for testing
     public static void main(String[] args) {
         System.out.println("=== Queue Implementation (LinkedList-based) ===\n");
 
         LinkedListQueue queue = new LinkedListQueue();
+        queue.setListener(QueueListener.CONSOLE);
 
         System.out.println("--- Enqueue Operations ---");
         queue.enqueue(100);
@@ -183,5 +579,39 @@ public class LinkedListQueue {
         }
         queue.peek();
         queue.dequeue();
+
+        System.out.println("\n--- Chunked (Unrolled) Queue ---");
+        LinkedListQueue chunked = new LinkedListQueue(4);
+        chunked.setListener(QueueListener.CONSOLE);
+        for (int i = 1; i <= 10; i++) {
+            chunked.enqueue(i * 100);
+        }
+        chunked.display();
+        chunked.dequeue();
+        chunked.dequeue();
+        chunked.dequeue();
+        chunked.dequeue();
+        chunked.dequeue();
+        chunked.search(900);
+        chunked.display();
+        System.out.println("Queue size: " + chunked.getSize());
+
+        System.out.println("\n--- O(1) Concatenation ---");
+        chunked.setListener(null);
+        LinkedListQueue more = new LinkedListQueue(4);
+        for (int i = 11; i <= 16; i++) {
+            more.enqueue(i * 100);
+        }
+        chunked.concat(more);
+        chunked.display();
+        System.out.println("Queue size: " + chunked.getSize() + ", other queue size: " + more.getSize());
+        LinkedListQueue nodes = new LinkedListQueue();
+        LinkedListQueue moreNodes = new LinkedListQueue();
+        nodes.enqueue(1);
+        moreNodes.enqueue(2);
+        moreNodes.enqueue(3);
+        nodes.concat(moreNodes);
+        nodes.enqueue(4);
+        nodes.display();
     }
 }
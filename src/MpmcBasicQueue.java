@@ -0,0 +1,314 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Multi-producer/multi-consumer bounded queue built on BasicQueue's fixed int[] storage.
+ * 
+ * Instead of a shared size counter, every slot carries its own sequence number.
+ * A producer may write slot (tail & mask) only when that slot's sequence equals tail,
+ * and a consumer may read slot (head & mask) only when its sequence equals head + 1.
+ * Producers claim slots with a CAS on tail and consumers with a CAS on head, so any
+ * number of threads can enqueue and dequeue without a global lock.
+ * 
+ * The capacity is rounded up to the next power of two so the slot index is a single AND.
+ */
+public class MpmcBasicQueue extends MpmcPadAfterTail {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(MpmcHeadField.class, "head", long.class);
+            TAIL = lookup.findVarHandle(MpmcTailField.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int[] queue;
+    private final long[] sequences;
+    private final int capacity;
+    private final int mask;
+    private QueueListener listener = QueueListener.NO_OP;
+
+    // Constructor to initialize the queue with at least the given capacity
+    public MpmcBasicQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity) {
+            length <<= 1;
+        }
+        this.capacity = length;
+        this.mask = length - 1;
+        this.queue = new int[length];
+        this.sequences = new long[length];
+        for (int i = 0; i < length; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    /**
+     * Offer - Add an element to the rear of the queue without blocking
+     * Time Complexity: O(1) (retries only when another producer wins the same slot)
+     * 
+     * @param element the element to be added
+     * @return true if the element was added, false if the queue is full
+     */
+    public boolean offer(int element) {
+        while (true) {
+            long currentTail = (long) TAIL.getVolatile(this);
+            int index = (int) currentTail & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, index);
+            long difference = sequence - currentTail;
+            if (difference == 0) {
+                if (TAIL.compareAndSet(this, currentTail, currentTail + 1)) {
+                    queue[index] = element;
+                    // Hand the slot to the consumer that will see head == currentTail
+                    SEQUENCE.setRelease(sequences, index, currentTail + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // Slot still holds an element from the previous lap
+                return false;
+            }
+            // Another producer claimed this slot first; retry with the new tail
+        }
+    }
+
+    /**
+     * Poll - Remove and return the front element without blocking
+     * Time Complexity: O(1) (retries only when another consumer wins the same slot)
+     * 
+     * @param emptyValue the value to return when the queue is empty
+     * @return the front element, or emptyValue if the queue is empty
+     */
+    public int poll(int emptyValue) {
+        long position = claimHead();
+        return position < 0 ? emptyValue : takeSlot(position);
+    }
+
+    // Claim the slot at head for this consumer, or return -1 if the queue is empty
+    private long claimHead() {
+        while (true) {
+            long currentHead = (long) HEAD.getVolatile(this);
+            int index = (int) currentHead & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, index);
+            long difference = sequence - (currentHead + 1);
+            if (difference == 0) {
+                if (HEAD.compareAndSet(this, currentHead, currentHead + 1)) {
+                    return currentHead;
+                }
+            } else if (difference < 0) {
+                // Slot not yet published by a producer
+                return -1;
+            }
+            // Another consumer claimed this slot first; retry with the new head
+        }
+    }
+
+    // Read a claimed slot and hand it back to the producer one lap ahead
+    private int takeSlot(long position) {
+        int index = (int) position & mask;
+        int element = queue[index];
+        SEQUENCE.setRelease(sequences, index, position + capacity);
+        return element;
+    }
+
+    /**
+     * Enqueue - Add an element to the rear of the queue
+     * Time Complexity: O(1)
+     * 
+     * @param element the element to be added
+     */
+    public void enqueue(int element) {
+        if (offer(element)) {
+            listener.onEnqueue(element);
+        } else {
+            listener.onRejected(element);
+        }
+    }
+
+    /**
+     * Dequeue - Remove and return the front element from the queue
+     * Time Complexity: O(1)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int dequeue() {
+        long position = claimHead();
+        if (position < 0) {
+            listener.onDequeueEmpty();
+            return -1;
+        }
+        int element = takeSlot(position);
+        listener.onDequeue(element);
+        return element;
+    }
+
+    /**
+     * Peek - View the front element without removing it
+     * Time Complexity: O(1)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int peek() {
+        while (true) {
+            long currentHead = (long) HEAD.getVolatile(this);
+            int index = (int) currentHead & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, index);
+            if (sequence - (currentHead + 1) < 0) {
+                listener.onPeekEmpty();
+                return -1;
+            }
+            int element = queue[index];
+            // Only trust the value if no consumer took the slot while we read it
+            if ((long) HEAD.getVolatile(this) == currentHead) {
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Attach a listener that is notified of enqueue/dequeue events
+     * Set it before the queue is shared with other threads
+     * 
+     * @param listener the listener to notify, or null to remove it
+     */
+    public void setListener(QueueListener listener) {
+        this.listener = listener == null ? QueueListener.NO_OP : listener;
+    }
+
+    /**
+     * Check if the queue is empty
+     * 
+     * @return true if queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return getSize() == 0;
+    }
+
+    /**
+     * Check if the queue is full
+     * 
+     * @return true if queue is full, false otherwise
+     */
+    public boolean isFull() {
+        return getSize() == capacity;
+    }
+
+    /**
+     * Get the current size of the queue
+     * The result is a snapshot and may be stale as soon as it returns
+     * 
+     * @return the number of elements in the queue
+     */
+    public int getSize() {
+        long currentHead = (long) HEAD.getVolatile(this);
+        long currentTail = (long) TAIL.getVolatile(this);
+        long size = currentTail - currentHead;
+        return (int) Math.min(Math.max(size, 0), capacity);
+    }
+
+    /**
+     * Get the capacity of the queue (the requested capacity rounded up to a power of two)
+     * 
+     * @return the maximum number of elements the queue can hold
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== MPMC Queue Implementation (Per-slot sequence numbers) ===\n");
+
+        MpmcBasicQueue queue = new MpmcBasicQueue(4);
+        queue.setListener(QueueListener.CONSOLE);
+
+        System.out.println("--- Single-threaded Operations ---");
+        queue.enqueue(10);
+        queue.enqueue(20);
+        queue.enqueue(30);
+        queue.enqueue(40);
+        System.out.println("Queue size: " + queue.getSize());
+        System.out.println("Front element (Peek): " + queue.peek());
+        queue.enqueue(50); // This will fail as queue is full
+        System.out.println("Offer 50: " + queue.offer(50));
+        queue.dequeue();
+        System.out.println("Poll: " + queue.poll(-1));
+
+        System.out.println("\n--- Four Producer Threads, Four Consumer Threads ---");
+        final int threads = 4;
+        final int perProducer = 1_000_000;
+        final MpmcBasicQueue shared = new MpmcBasicQueue(1024);
+        final AtomicLong checksum = new AtomicLong();
+        Thread[] workers = new Thread[threads * 2];
+
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    while (!shared.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            workers[threads + t] = new Thread(() -> {
+                long sum = 0;
+                for (int i = 0; i < perProducer; i++) {
+                    int element;
+                    while ((element = shared.poll(-1)) == -1) {
+                        Thread.yield();
+                    }
+                    sum += element;
+                }
+                checksum.addAndGet(sum);
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long expected = (long) threads * perProducer * (perProducer + 1) / 2;
+        System.out.println("Transferred " + (threads * perProducer) + " elements, checksum "
+                + (checksum.get() == expected ? "OK" : "MISMATCH"));
+        System.out.printf("Throughput: %.1f million ops/sec%n", threads * perProducer / (elapsed / 1000.0));
+    }
+}
+
+// Padding classes: the JVM lays out superclass fields before subclass fields,
+// so this hierarchy keeps head and tail on different cache lines.
+abstract class MpmcPadBeforeHead {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+}
+
+abstract class MpmcHeadField extends MpmcPadBeforeHead {
+    // Claimed by consumers with CAS
+    volatile long head;
+}
+
+abstract class MpmcPadBetween extends MpmcHeadField {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+    long p18, p19, p1a, p1b, p1c, p1d, p1e, p1f;
+}
+
+abstract class MpmcTailField extends MpmcPadBetween {
+    // Claimed by producers with CAS
+    volatile long tail;
+}
+
+abstract class MpmcPadAfterTail extends MpmcTailField {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p28, p29, p2a, p2b, p2c, p2d, p2e, p2f;
+}
@@ -0,0 +1,337 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+/**
+ * Fixed-capacity circular queue with the same operations as BasicQueue whose
+ * elements live outside the Java heap.
+ * 
+ * The ring is split into segments of direct ByteBuffer memory, each at most
+ * 2^28 ints (1 GiB), so the capacity is a long and can exceed the 2^31 limit
+ * of an int[]. The garbage collector never scans or copies the elements; call
+ * close() to release the memory as soon as the queue is no longer needed.
+ * Direct memory is limited by -XX:MaxDirectMemorySize (by default the heap size).
+ */
+public class OffHeapIntQueue implements AutoCloseable {
+    // Ints per full segment: 2^28 ints is 1 GiB, within the limit of one direct buffer
+    private static final int DEFAULT_SEGMENT_SHIFT = 28;
+
+    private IntBuffer[] segments;
+    private ByteBuffer[] memory;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final long capacity;
+    // head and tail only ever increase; size is tail - head
+    private long head;
+    private long tail;
+    private QueueListener listener = QueueListener.NO_OP;
+
+    /**
+     * Create an off-heap queue
+     * 
+     * @param capacity the number of elements the queue can hold (may exceed Integer.MAX_VALUE)
+     */
+    public OffHeapIntQueue(long capacity) {
+        this(capacity, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    // Smaller segments let the demo show segment boundaries without gigabytes of memory
+    OffHeapIntQueue(long capacity, int segmentShift) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (segmentShift < 1 || segmentShift > DEFAULT_SEGMENT_SHIFT) {
+            throw new IllegalArgumentException("Segment shift must be between 1 and 28: " + segmentShift);
+        }
+        this.capacity = capacity;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        int count = (int) ((capacity + segmentMask) >>> segmentShift);
+        this.segments = new IntBuffer[count];
+        this.memory = new ByteBuffer[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                long ints = Math.min(1L << segmentShift, capacity - ((long) i << segmentShift));
+                memory[i] = ByteBuffer.allocateDirect((int) ints * Integer.BYTES).order(ByteOrder.nativeOrder());
+                segments[i] = memory[i].asIntBuffer();
+            }
+        } catch (OutOfMemoryError e) {
+            // Give back the segments already allocated before failing
+            close();
+            throw e;
+        }
+    }
+
+    // Segment holding the slot for a head/tail sequence number
+    private IntBuffer segment(long slot) {
+        return segments[(int) (slot >>> segmentShift)];
+    }
+
+    private void ensureOpen() {
+        if (segments == null) {
+            throw new IllegalStateException("Queue has been closed");
+        }
+    }
+
+    /**
+     * Enqueue - Add an element to the rear of the queue
+     * Time Complexity: O(1)
+     * 
+     * @param element the element to be added
+     */
+    public void enqueue(int element) {
+        ensureOpen();
+        if (tail - head == capacity) {
+            listener.onRejected(element);
+            return;
+        }
+        long slot = tail % capacity;
+        segment(slot).put((int) (slot & segmentMask), element);
+        tail++;
+        listener.onEnqueue(element);
+    }
+
+    /**
+     * Dequeue - Remove and return the front element from the queue
+     * Time Complexity: O(1)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int dequeue() {
+        ensureOpen();
+        if (tail == head) {
+            listener.onDequeueEmpty();
+            return -1;
+        }
+        long slot = head % capacity;
+        int element = segment(slot).get((int) (slot & segmentMask));
+        head++;
+        listener.onDequeue(element);
+        return element;
+    }
+
+    /**
+     * Peek - View the front element without removing it
+     * Time Complexity: O(1)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int peek() {
+        ensureOpen();
+        if (tail == head) {
+            listener.onPeekEmpty();
+            return -1;
+        }
+        long slot = head % capacity;
+        return segment(slot).get((int) (slot & segmentMask));
+    }
+
+    /**
+     * Bulk enqueue - Add a range of elements to the rear of the queue
+     * Copies one contiguous run per segment (and per side of the wrap)
+     * Time Complexity: O(len)
+     * 
+     * @param src the array holding the elements
+     * @param off index of the first element in src
+     * @param len number of elements to add
+     * @return the number of elements added, less than len only if the queue filled up
+     */
+    public int enqueueAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        ensureOpen();
+        int count = (int) Math.min(len, capacity - (tail - head));
+        for (int done = 0; done < count; ) {
+            long slot = (tail + done) % capacity;
+            int run = runLength(slot, count - done);
+            segment(slot).put((int) (slot & segmentMask), src, off + done, run);
+            done += run;
+        }
+        tail += count;
+        if (listener != QueueListener.NO_OP) {
+            for (int i = 0; i < len; i++) {
+                if (i < count) {
+                    listener.onEnqueue(src[off + i]);
+                } else {
+                    listener.onRejected(src[off + i]);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Bulk dequeue - Remove up to max elements from the front into an array
+     * Copies one contiguous run per segment (and per side of the wrap)
+     * Time Complexity: O(max)
+     * 
+     * @param dst the array to copy the elements into
+     * @param off index in dst for the first element
+     * @param max the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    public int dequeueInto(int[] dst, int off, int max) {
+        Objects.checkFromIndexSize(off, max, dst.length);
+        ensureOpen();
+        int count = (int) Math.min(max, tail - head);
+        for (int done = 0; done < count; ) {
+            long slot = (head + done) % capacity;
+            int run = runLength(slot, count - done);
+            segment(slot).get((int) (slot & segmentMask), dst, off + done, run);
+            done += run;
+        }
+        head += count;
+        if (listener != QueueListener.NO_OP) {
+            for (int i = 0; i < count; i++) {
+                listener.onDequeue(dst[off + i]);
+            }
+        }
+        return count;
+    }
+
+    // Elements that can be copied from slot before reaching the end of its segment or of the ring
+    private int runLength(long slot, int wanted) {
+        long segmentEnd = Math.min((slot | segmentMask) + 1, capacity);
+        return (int) Math.min(wanted, segmentEnd - slot);
+    }
+
+    /**
+     * Release the off-heap memory now instead of waiting for garbage collection.
+     * The queue cannot be used afterwards; closing twice has no effect.
+     */
+    @Override
+    public void close() {
+        if (memory == null) {
+            return;
+        }
+        for (ByteBuffer buffer : memory) {
+            if (buffer != null) {
+                BufferCleaner.free(buffer);
+            }
+        }
+        memory = null;
+        segments = null;
+    }
+
+    /**
+     * Attach a listener that is notified of enqueue/dequeue events
+     * 
+     * @param listener the listener to notify, or null to remove it
+     */
+    public void setListener(QueueListener listener) {
+        this.listener = listener == null ? QueueListener.NO_OP : listener;
+    }
+
+    /**
+     * Check if the queue is empty
+     * 
+     * @return true if queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return tail == head;
+    }
+
+    /**
+     * Check if the queue is full
+     * 
+     * @return true if queue is full, false otherwise
+     */
+    public boolean isFull() {
+        return tail - head == capacity;
+    }
+
+    /**
+     * Get the capacity of the queue
+     * 
+     * @return the number of elements the queue can hold
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Get the current size of the queue
+     * 
+     * @return the number of elements in the queue
+     */
+    public long getSize() {
+        return tail - head;
+    }
+
+    /**
+     * Display all elements in the queue
+     * Time Complexity: O(n)
+     */
+    public void display() {
+        ensureOpen();
+        if (tail == head) {
+            System.out.println("Queue is empty!");
+            return;
+        }
+        System.out.print("Queue elements (front to rear): ");
+        for (long i = head; i < tail; i++) {
+            long slot = i % capacity;
+            System.out.print(segment(slot).get((int) (slot & segmentMask)) + " ");
+        }
+        System.out.println();
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("=== Off-heap Queue Implementation (Direct Memory) ===\n");
+
+        try (OffHeapIntQueue queue = new OffHeapIntQueue(5)) {
+            queue.setListener(QueueListener.CONSOLE);
+
+            System.out.println("--- Enqueue Operations ---");
+            queue.enqueue(10);
+            queue.enqueue(20);
+            queue.enqueue(30);
+            queue.enqueue(40);
+            queue.enqueue(50);
+            queue.display();
+            System.out.println("Queue size: " + queue.getSize());
+            System.out.println("Front element (Peek): " + queue.peek());
+
+            System.out.println("\n--- Dequeue and Wrap Around ---");
+            queue.dequeue();
+            queue.dequeue();
+            queue.enqueue(60);
+            queue.enqueue(70);
+            queue.display();
+            queue.enqueue(80); // This will fail as queue is full
+        }
+
+        System.out.println("\n--- Many Segments (1M ints each) ---");
+        int elements = 10_000_000;
+        // Capacity is not a multiple of the batch size, so later rounds wrap around the ring
+        try (OffHeapIntQueue big = new OffHeapIntQueue(elements + 1_234_567, 20)) {
+            int[] batch = new int[100_000];
+            long sum = 0;
+            for (int round = 0; round < 3; round++) {
+                for (int filled = 0; filled < elements; filled += batch.length) {
+                    for (int i = 0; i < batch.length; i++) {
+                        batch[i] = filled + i;
+                    }
+                    big.enqueueAll(batch, 0, batch.length);
+                }
+                while (big.getSize() > 1) {
+                    int count = big.dequeueInto(batch, 0, (int) Math.min(batch.length, big.getSize() - 1));
+                    for (int i = 0; i < count; i++) {
+                        sum += batch[i];
+                    }
+                }
+                sum += big.dequeue();
+            }
+            long expected = 3L * elements * (elements - 1) / 2;
+            System.out.println("Capacity: " + big.getCapacity() + " (" + big.segments.length + " segments)");
+            System.out.println("Moved " + 3L * elements + " elements through the queue, checksum "
+                    + (sum == expected ? "OK" : "MISMATCH"));
+        }
+
+        long huge = 3_000_000_000L;
+        System.out.println("A queue of " + huge + " ints needs " + (huge * Integer.BYTES >> 30)
+                + " GiB in " + ((huge + (1L << DEFAULT_SEGMENT_SHIFT) - 1) >>> DEFAULT_SEGMENT_SHIFT)
+                + " segments, beyond any int[]");
+    }
+}
@@ -0,0 +1,461 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Crash-safe append-only log of print job arrivals and completions.
+ * 
+ * The log is a directory of fixed-size segment files, each memory-mapped and
+ * filled with fixed-size 128-byte records: ADD (the full job) or PROCESS (the
+ * jobId). Every record ends in a CRC32, so a record torn by a crash is detected
+ * and recovery stops cleanly before it.
+ * 
+ * Durability: a record is in the OS page cache as soon as it is appended and
+ * survives a crash of this process. Forcing it to disk is batched (group commit):
+ * the segment is forced after every syncEveryRecords appends, on sync() and on
+ * close(), so a power failure loses at most the last unsynced batch.
+ * 
+ * When a segment fills up the log rolls to a new one. Once compactAfterSegments
+ * segments exist, the jobs still queued are rewritten into fresh segments and
+ * the old ones are deleted, so the log never grows beyond the live jobs plus a
+ * few segments of history. Not thread-safe; PrinterJobQueue calls it under its lock.
+ */
+public class PrintJobLog implements AutoCloseable {
+
+    public static final int RECORD_SIZE = 128;
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 8192;
+    public static final int DEFAULT_SYNC_EVERY_RECORDS = 64;
+    public static final int DEFAULT_COMPACT_AFTER_SEGMENTS = 4;
+
+    private static final String SEGMENT_PREFIX = "jobs-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    // Record types (0 marks space that has never been written)
+    private static final byte EMPTY = 0;
+    private static final byte ADD = 1;
+    private static final byte PROCESS = 2;
+
+    // Record layout
+    private static final int TYPE_OFFSET = 0;
+    private static final int PRIORITY_OFFSET = 1;
+    private static final int FILE_NAME_LENGTH_OFFSET = 2;
+    private static final int JOB_ID_OFFSET = 4;
+    private static final int PAGES_OFFSET = 8;
+    private static final int SUBMITTER_LENGTH_OFFSET = 12;
+    private static final int FILE_NAME_OFFSET = 16;
+    private static final int FILE_NAME_CAPACITY = 80;
+    private static final int SUBMITTER_OFFSET = FILE_NAME_OFFSET + FILE_NAME_CAPACITY;
+    private static final int SUBMITTER_CAPACITY = 28;
+    private static final int CRC_OFFSET = RECORD_SIZE - 4;
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final int syncEveryRecords;
+    private final int compactAfterSegments;
+
+    // Jobs added but not yet processed, in arrival order
+    private final Map<Integer, PrinterJobQueue.PrintJob> liveJobs = new LinkedHashMap<>();
+    // Segment number -> file, oldest first
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private final byte[] record = new byte[RECORD_SIZE];
+    private final CRC32 crc = new CRC32();
+
+    private long currentSegment;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int unsynced;
+
+    private PrintJobLog(Path directory, int recordsPerSegment, int syncEveryRecords, int compactAfterSegments) {
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        this.syncEveryRecords = syncEveryRecords;
+        this.compactAfterSegments = compactAfterSegments;
+    }
+
+    /**
+     * Open (or create) a log with default settings and recover its jobs
+     * 
+     * @param directory the directory holding the segment files
+     * @return the opened log
+     * @throws IOException if the directory or a segment cannot be read
+     */
+    public static PrintJobLog open(Path directory) throws IOException {
+        return open(directory, DEFAULT_RECORDS_PER_SEGMENT, DEFAULT_SYNC_EVERY_RECORDS, DEFAULT_COMPACT_AFTER_SEGMENTS);
+    }
+
+    /**
+     * Open (or create) a log and recover its jobs by scanning every segment
+     * Time Complexity: O(records in the log)
+     * 
+     * @param directory the directory holding the segment files
+     * @param recordsPerSegment records per segment file before rolling to a new one
+     * @param syncEveryRecords how many appends share one force to disk (1 forces every append)
+     * @param compactAfterSegments how many segments may accumulate before compaction
+     * @return the opened log
+     * @throws IOException if the directory or a segment cannot be read
+     */
+    public static PrintJobLog open(Path directory, int recordsPerSegment, int syncEveryRecords,
+            int compactAfterSegments) throws IOException {
+        if (recordsPerSegment <= 0 || syncEveryRecords <= 0 || compactAfterSegments < 2) {
+            throw new IllegalArgumentException("Invalid log settings");
+        }
+        Files.createDirectories(directory);
+        PrintJobLog log = new PrintJobLog(directory, recordsPerSegment, syncEveryRecords, compactAfterSegments);
+        log.recover();
+        return log;
+    }
+
+    // Replay every segment in order, then position the writer after the last good record
+    private void recover() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String number = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+                segments.put(Long.parseLong(number), file);
+            }
+        }
+        if (segments.isEmpty()) {
+            openSegment(1);
+            return;
+        }
+        int position = 0;
+        for (Map.Entry<Long, Path> segment : segments.entrySet()) {
+            mapSegment(segment.getKey());
+            position = replaySegment();
+            if (segment.getKey() < segments.lastKey()) {
+                closeSegment();
+            }
+        }
+        // Clear anything after a torn record so it cannot be replayed once new records follow it
+        byte[] blank = new byte[RECORD_SIZE];
+        for (int offset = position; offset + RECORD_SIZE <= buffer.capacity(); offset += RECORD_SIZE) {
+            if (buffer.get(offset + TYPE_OFFSET) != EMPTY) {
+                buffer.put(offset, blank);
+            }
+        }
+        buffer.position(position);
+    }
+
+    // Apply the records of the mapped segment; returns the offset of the first unused record
+    private int replaySegment() {
+        int limit = buffer.capacity() - buffer.capacity() % RECORD_SIZE;
+        for (int offset = 0; offset < limit; offset += RECORD_SIZE) {
+            buffer.get(offset, record, 0, RECORD_SIZE);
+            byte type = record[TYPE_OFFSET];
+            if (type == EMPTY || !checksumMatches()) {
+                // End of written data, or a record torn by a crash
+                return offset;
+            }
+            int jobId = readInt(JOB_ID_OFFSET);
+            if (type == ADD) {
+                liveJobs.put(jobId, decodeJob());
+            } else if (type == PROCESS) {
+                liveJobs.remove(jobId);
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Get the jobs that were added but not processed before the log was last closed
+     * 
+     * @return the live jobs in arrival order
+     */
+    public List<PrinterJobQueue.PrintJob> liveJobs() {
+        return new ArrayList<>(liveJobs.values());
+    }
+
+    /**
+     * Check whether a job with this id has been added and not yet processed
+     * 
+     * @param jobId the job id to look up
+     * @return true if the id belongs to a live job
+     */
+    public boolean isLive(int jobId) {
+        return liveJobs.containsKey(jobId);
+    }
+
+    /**
+     * Record that a job was added
+     * 
+     * @param job the job added to the queue
+     * @throws IllegalStateException if the log is closed
+     */
+    public void appendAdd(PrinterJobQueue.PrintJob job) {
+        ensureOpen();
+        encodeJob(job);
+        append();
+        liveJobs.put(job.jobId, job);
+        compactIfNeeded();
+    }
+
+    /**
+     * Record that a job was processed (removed from the queue)
+     * 
+     * @param job the job taken from the queue
+     * @throws IllegalStateException if the log is closed
+     */
+    public void appendProcess(PrinterJobQueue.PrintJob job) {
+        ensureOpen();
+        Arrays.fill(record, (byte) 0);
+        record[TYPE_OFFSET] = PROCESS;
+        writeInt(JOB_ID_OFFSET, job.jobId);
+        append();
+        liveJobs.remove(job.jobId);
+        compactIfNeeded();
+    }
+
+    // closeSegment() drops the buffer, so it is null after close() and after a roll
+    // that could not open the next segment
+    private void ensureOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("Print job log in " + directory + " is closed");
+        }
+    }
+
+    // Write the prepared record at the end of the log, rolling and syncing as needed
+    private void append() {
+        try {
+            if (buffer.remaining() < RECORD_SIZE) {
+                roll();
+            }
+            crc.reset();
+            crc.update(record, 0, CRC_OFFSET);
+            writeInt(CRC_OFFSET, (int) crc.getValue());
+            buffer.put(record);
+            if (++unsynced >= syncEveryRecords) {
+                sync();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to print job log in " + directory, e);
+        }
+    }
+
+    /**
+     * Force every appended record to disk
+     * 
+     * @throws IllegalStateException if the log is closed
+     */
+    public void sync() {
+        ensureOpen();
+        if (unsynced > 0) {
+            buffer.force();
+            unsynced = 0;
+        }
+    }
+
+    // Finish the current segment and continue in a new one
+    private void roll() throws IOException {
+        sync();
+        closeSegment();
+        openSegment(currentSegment + 1);
+    }
+
+    // Unmap the current segment and close its channel; the buffer must not be used afterwards
+    private void closeSegment() throws IOException {
+        MappedByteBuffer mapped = buffer;
+        buffer = null;
+        BufferCleaner.free(mapped);
+        channel.close();
+    }
+
+    // Compact once the segments hold compactAfterSegments more than the live jobs need
+    private void compactIfNeeded() {
+        long liveSegments = (liveJobs.size() + recordsPerSegment - 1) / recordsPerSegment;
+        if (segments.size() < compactAfterSegments + liveSegments) {
+            return;
+        }
+        try {
+            compact();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact print job log in " + directory, e);
+        }
+    }
+
+    /**
+     * Rewrite the live jobs into fresh segments and delete all older segments
+     * Time Complexity: O(live jobs)
+     * 
+     * @throws IOException if a segment cannot be created or deleted
+     * @throws IllegalStateException if the log is closed
+     */
+    public void compact() throws IOException {
+        ensureOpen();
+        if (buffer.position() > 0) {
+            roll();
+        }
+        long firstKept = currentSegment;
+        for (PrinterJobQueue.PrintJob job : new ArrayList<>(liveJobs.values())) {
+            encodeJob(job);
+            append();
+        }
+        // The rewritten jobs must be durable before their old records disappear
+        sync();
+        // Every older segment was unmapped by roll() or recover() when the log moved past it,
+        // so nothing maps these files any more; Windows refuses to delete a mapped file
+        while (segments.firstKey() < firstKept) {
+            Files.deleteIfExists(segments.pollFirstEntry().getValue());
+        }
+    }
+
+    /**
+     * Get the number of segment files currently in the log
+     * 
+     * @return number of segments
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Force remaining records to disk and unmap and close the current segment;
+     * closing twice has no effect
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        sync();
+        closeSegment();
+    }
+
+    private void openSegment(long number) throws IOException {
+        segments.put(number, segmentPath(number));
+        mapSegment(number);
+    }
+
+    private void mapSegment(long number) throws IOException {
+        channel = FileChannel.open(segmentPath(number),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // A segment written with a larger segment size is mapped whole
+        long size = Math.max(channel.size(), (long) recordsPerSegment * RECORD_SIZE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        currentSegment = number;
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private void encodeJob(PrinterJobQueue.PrintJob job) {
+        Arrays.fill(record, (byte) 0);
+        record[TYPE_OFFSET] = ADD;
+        record[PRIORITY_OFFSET] = (byte) job.priority.ordinal();
+        writeInt(JOB_ID_OFFSET, job.jobId);
+        writeInt(PAGES_OFFSET, job.pages);
+        int fileNameLength = writeString(FILE_NAME_OFFSET, FILE_NAME_CAPACITY, job.fileName);
+        int submitterLength = writeString(SUBMITTER_OFFSET, SUBMITTER_CAPACITY, job.submitter);
+        writeShort(FILE_NAME_LENGTH_OFFSET, fileNameLength);
+        writeShort(SUBMITTER_LENGTH_OFFSET, submitterLength);
+    }
+
+    private PrinterJobQueue.PrintJob decodeJob() {
+        PrinterJobQueue.Priority priority = PrinterJobQueue.Priority.values()[record[PRIORITY_OFFSET]];
+        String fileName = new String(record, FILE_NAME_OFFSET, readShort(FILE_NAME_LENGTH_OFFSET), StandardCharsets.UTF_8);
+        String submitter = new String(record, SUBMITTER_OFFSET, readShort(SUBMITTER_LENGTH_OFFSET), StandardCharsets.UTF_8);
+        return new PrinterJobQueue.PrintJob(readInt(JOB_ID_OFFSET), fileName, readInt(PAGES_OFFSET), priority, submitter);
+    }
+
+    private boolean checksumMatches() {
+        crc.reset();
+        crc.update(record, 0, CRC_OFFSET);
+        return readInt(CRC_OFFSET) == (int) crc.getValue();
+    }
+
+    // Copy a string's UTF-8 bytes into the record, truncated on a character boundary
+    private int writeString(int offset, int capacity, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, capacity);
+        // Do not cut a multi-byte character in half
+        while (length < bytes.length && length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        System.arraycopy(bytes, 0, record, offset, length);
+        return length;
+    }
+
+    private void writeInt(int offset, int value) {
+        record[offset] = (byte) (value >>> 24);
+        record[offset + 1] = (byte) (value >>> 16);
+        record[offset + 2] = (byte) (value >>> 8);
+        record[offset + 3] = (byte) value;
+    }
+
+    private int readInt(int offset) {
+        return (record[offset] & 0xFF) << 24 | (record[offset + 1] & 0xFF) << 16
+                | (record[offset + 2] & 0xFF) << 8 | (record[offset + 3] & 0xFF);
+    }
+
+    private void writeShort(int offset, int value) {
+        record[offset] = (byte) (value >>> 8);
+        record[offset + 1] = (byte) value;
+    }
+
+    private int readShort(int offset) {
+        return (record[offset] & 0xFF) << 8 | (record[offset + 1] & 0xFF);
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Durable Printer Job Queue ===\n");
+
+        Path directory = Files.createTempDirectory("print-jobs");
+
+        System.out.println("--- First Run ---");
+        PrinterJobQueue queue = PrinterJobQueue.open(directory, SchedulingPolicy.PRIORITY);
+        queue.setListener(PrinterJobQueue.PrintJobListener.CONSOLE);
+        queue.addJob(new PrinterJobQueue.PrintJob(1, "Report.pdf", 10, "Normal"));
+        queue.addJob(new PrinterJobQueue.PrintJob(2, "Presentation.pptx", 25, "High"));
+        queue.addJob(new PrinterJobQueue.PrintJob(3, "Invoice.docx", 5, "Urgent"));
+        queue.addJob(new PrinterJobQueue.PrintJob(4, "Images.zip", 50, "Normal"));
+        queue.processJob();
+        // No close(): simulate the process being killed
+        System.out.println("Process stops with " + queue.getQueueSize() + " jobs queued");
+
+        System.out.println("\n--- After Restart ---");
+        queue = PrinterJobQueue.open(directory, SchedulingPolicy.PRIORITY);
+        queue.displayQueue();
+        queue.close();
+
+        System.out.println("\n--- Torn Write ---");
+        try (PrintJobLog log = open(directory)) {
+            log.appendAdd(new PrinterJobQueue.PrintJob(5, "Memo.txt", 2, PrinterJobQueue.Priority.HIGH));
+            // Damage the record just written, as a crash in the middle of it would
+            log.buffer.put(log.buffer.position() - 10, (byte) 0x7F);
+        }
+        try (PrintJobLog log = open(directory)) {
+            System.out.println("Jobs recovered (damaged record skipped): " + log.liveJobs().size());
+        }
+
+        System.out.println("\n--- Segment Rolling and Compaction ---");
+        Path busy = Files.createTempDirectory("print-jobs");
+        try (PrintJobLog log = open(busy, 64, DEFAULT_SYNC_EVERY_RECORDS, 3)) {
+            PrinterJobQueue busyQueue = PrinterJobQueue.open(log, new FifoJobScheduler());
+            for (int id = 1; id <= 1000; id++) {
+                busyQueue.addJob(new PrinterJobQueue.PrintJob(id, "Page" + id + ".txt", 1, PrinterJobQueue.Priority.NORMAL));
+                if (id % 10 != 0) {
+                    busyQueue.processJob();
+                }
+            }
+            System.out.println("2000 records written, jobs queued: " + busyQueue.getQueueSize()
+                    + ", segments on disk: " + log.getSegmentCount());
+        }
+        try (PrintJobLog log = open(busy)) {
+            System.out.println("Jobs recovered after compaction: " + log.liveJobs().size());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Replays a print job trace against each scheduling policy and reports how
+ * long jobs waited in the queue.
+ * 
+ * The simulation is event-driven and uses simulated time, so a trace of
+ * thousands of jobs replays instantly. Printing a job takes pages * millisPerPage.
+ * 
+ * Usage: java -cp src PrintQueueSimulator [trace.csv [printers [millisPerPage]]]
+ * Trace lines are: arrivalMillis,jobId,fileName,pages,priority,submitter
+ * (lines starting with # and a non-numeric header line are skipped).
+ * Without a trace file a synthetic workload is generated.
+ */
+public class PrintQueueSimulator {
+
+    // One job in the trace and the time it reaches the queue
+    static class TraceEntry {
+        final long arrivalMillis;
+        final PrinterJobQueue.PrintJob job;
+
+        TraceEntry(long arrivalMillis, PrinterJobQueue.PrintJob job) {
+            this.arrivalMillis = arrivalMillis;
+            this.job = job;
+        }
+    }
+
+    // Wait-time summary for one policy
+    static class Result {
+        final SchedulingPolicy policy;
+        final double meanWaitMillis;
+        final long p99WaitMillis;
+        final long maxWaitMillis;
+
+        Result(SchedulingPolicy policy, double meanWaitMillis, long p99WaitMillis, long maxWaitMillis) {
+            this.policy = policy;
+            this.meanWaitMillis = meanWaitMillis;
+            this.p99WaitMillis = p99WaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-20s mean wait: %10.1f ms | p99 wait: %8d ms | max wait: %8d ms",
+                    policy, meanWaitMillis, p99WaitMillis, maxWaitMillis);
+        }
+    }
+
+    /**
+     * Replay a trace through one scheduling policy
+     * Time Complexity: O(n log n) plus the policy's own cost
+     * 
+     * @param trace the jobs and their arrival times
+     * @param policy the policy to simulate
+     * @param printers number of printers serving the queue
+     * @param millisPerPage time to print one page
+     * @return the wait-time summary (all zero for an empty trace)
+     * @throws IllegalArgumentException if printers is less than 1
+     */
+    static Result simulate(List<TraceEntry> trace, SchedulingPolicy policy, int printers, long millisPerPage) {
+        if (printers < 1) {
+            throw new IllegalArgumentException("Need at least one printer: " + printers);
+        }
+        if (trace.isEmpty()) {
+            return new Result(policy, 0, 0, 0);
+        }
+        List<TraceEntry> ordered = new ArrayList<>(trace);
+        ordered.sort(Comparator.comparingLong(entry -> entry.arrivalMillis));
+        // Keyed by the job object, not jobId: a trace may reuse ids
+        Map<PrinterJobQueue.PrintJob, Long> arrivals = new IdentityHashMap<>();
+        for (TraceEntry entry : ordered) {
+            arrivals.put(entry.job, entry.arrivalMillis);
+        }
+
+        JobScheduler scheduler = policy.newScheduler();
+        long[] freeAt = new long[printers];
+        long[] waits = new long[ordered.size()];
+        int next = 0;
+        int done = 0;
+
+        while (done < waits.length) {
+            // The printer that becomes free first takes the next job
+            int printer = 0;
+            for (int i = 1; i < printers; i++) {
+                if (freeAt[i] < freeAt[printer]) {
+                    printer = i;
+                }
+            }
+            long now = freeAt[printer];
+            if (scheduler.size() == 0 && ordered.get(next).arrivalMillis > now) {
+                // Printer sits idle until the next job arrives
+                now = ordered.get(next).arrivalMillis;
+            }
+            while (next < ordered.size() && ordered.get(next).arrivalMillis <= now) {
+                scheduler.add(ordered.get(next).job);
+                next++;
+            }
+            PrinterJobQueue.PrintJob job = scheduler.poll();
+            waits[done++] = now - arrivals.get(job);
+            freeAt[printer] = now + job.pages * millisPerPage;
+        }
+
+        Arrays.sort(waits);
+        long total = 0;
+        for (long wait : waits) {
+            total += wait;
+        }
+        int p99Index = Math.max(0, (int) Math.ceil(waits.length * 0.99) - 1);
+        return new Result(policy, (double) total / waits.length, waits[p99Index], waits[waits.length - 1]);
+    }
+
+    /**
+     * Load a trace from a CSV file
+     * 
+     * @param file the trace file
+     * @return the trace entries
+     * @throws IOException if the file cannot be read
+     */
+    static List<TraceEntry> loadTrace(Path file) throws IOException {
+        List<TraceEntry> trace = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#") || !Character.isDigit(line.charAt(0))) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (fields.length < 5) {
+                throw new IOException("Expected arrivalMillis,jobId,fileName,pages,priority[,submitter]: " + line);
+            }
+            String submitter = fields.length > 5 ? fields[5].trim() : PrinterJobQueue.DEFAULT_SUBMITTER;
+            PrinterJobQueue.PrintJob job = new PrinterJobQueue.PrintJob(
+                    Integer.parseInt(fields[1].trim()), fields[2].trim(), Integer.parseInt(fields[3].trim()),
+                    PrinterJobQueue.Priority.fromLabel(fields[4].trim()), submitter);
+            trace.add(new TraceEntry(Long.parseLong(fields[0].trim()), job));
+        }
+        return trace;
+    }
+
+    /**
+     * Generate a mixed office workload: many short memos, some medium
+     * documents and occasional very large jobs from a single heavy submitter
+     * 
+     * @param jobs number of jobs
+     * @param meanGapMillis mean time between arrivals
+     * @param seed random seed, so runs are repeatable
+     * @return the trace entries
+     */
+    static List<TraceEntry> syntheticTrace(int jobs, long meanGapMillis, long seed) {
+        Random random = new Random(seed);
+        PrinterJobQueue.Priority[] priorities = PrinterJobQueue.Priority.values();
+        List<TraceEntry> trace = new ArrayList<>();
+        long time = 0;
+        for (int id = 1; id <= jobs; id++) {
+            time += (long) (-Math.log(1 - random.nextDouble()) * meanGapMillis);
+            int kind = random.nextInt(10);
+            PrinterJobQueue.PrintJob job;
+            if (kind < 7) {
+                job = new PrinterJobQueue.PrintJob(id, "Memo.txt", 1 + random.nextInt(3),
+                        priorities[random.nextInt(priorities.length)], "alice");
+            } else if (kind < 9) {
+                job = new PrinterJobQueue.PrintJob(id, "Report.pdf", 5 + random.nextInt(11),
+                        priorities[random.nextInt(priorities.length)], "carol");
+            } else {
+                job = new PrinterJobQueue.PrintJob(id, "Images.zip", 30 + random.nextInt(31),
+                        PrinterJobQueue.Priority.NORMAL, "bob");
+            }
+            trace.add(new TraceEntry(time, job));
+        }
+        return trace;
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Print Queue Scheduling Simulator ===\n");
+
+        int printers = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        long millisPerPage = args.length > 2 ? Long.parseLong(args[2]) : 100;
+        List<TraceEntry> trace;
+        if (args.length > 0) {
+            trace = loadTrace(Paths.get(args[0]));
+            System.out.println("Trace: " + args[0] + " (" + trace.size() + " jobs)");
+        } else {
+            // About 7.9 pages per job at 100 ms/page against a job every 930 ms: ~85% busy
+            trace = syntheticTrace(5000, 930, 42);
+            System.out.println("Trace: synthetic (" + trace.size() + " jobs, ~85% printer utilisation)");
+        }
+        System.out.println("Printers: " + printers + ", " + millisPerPage + " ms/page\n");
+
+        for (SchedulingPolicy policy : SchedulingPolicy.values()) {
+            System.out.println(simulate(trace, policy, printers, millisPerPage));
+        }
+    }
+}
@@ -0,0 +1,328 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains a PrinterJobQueue with a pool of printer workers running in parallel.
+ * 
+ * Each worker blocks on the shared queue for its next job, hands it to the
+ * Printer, and records its own throughput and latency figures. A job whose
+ * print fails goes back into the queue (and, for a durable queue, back into its
+ * log), up to MAX_ATTEMPTS tries; the worker keeps the last failure. Workers run on
+ * threads from the given ThreadFactory, so on JDK 21+ passing
+ * Thread.ofVirtual().factory() runs them on virtual threads.
+ */
+public class PrinterDispatcher {
+
+    // How long an idle worker waits for a job before re-checking for shutdown
+    private static final long IDLE_POLL_MILLIS = 50;
+
+    // How many times a job is tried before the dispatcher gives up on it
+    private static final int MAX_ATTEMPTS = 3;
+
+    /**
+     * The device a worker sends each job to
+     */
+    public interface Printer {
+        void print(PrinterJobQueue.PrintJob job) throws Exception;
+    }
+
+    /**
+     * Metrics for one printer worker. Each field is written only by its worker
+     * and may be read from any thread.
+     */
+    public static class WorkerStats {
+        private final String name;
+        private volatile long jobsPrinted;
+        private volatile long pagesPrinted;
+        private volatile long failures;
+        private volatile long jobsDropped;
+        private volatile Exception lastFailure;
+        private volatile long busyNanos;
+        private volatile long totalWaitNanos;
+        private volatile long maxWaitNanos;
+
+        WorkerStats(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getJobsPrinted() {
+            return jobsPrinted;
+        }
+
+        public long getPagesPrinted() {
+            return pagesPrinted;
+        }
+
+        // Failed print attempts, including those of jobs that were retried
+        public long getFailures() {
+            return failures;
+        }
+
+        // Jobs given up on after MAX_ATTEMPTS failed attempts
+        public long getJobsDropped() {
+            return jobsDropped;
+        }
+
+        // Exception from the most recent failed attempt, or null if none failed
+        public Exception getLastFailure() {
+            return lastFailure;
+        }
+
+        // Time spent printing, in nanoseconds
+        public long getBusyNanos() {
+            return busyNanos;
+        }
+
+        // Mean time a job waited in the queue before this worker took it
+        public double getMeanWaitMillis() {
+            long jobs = jobsPrinted + failures;
+            return jobs == 0 ? 0 : totalWaitNanos / 1e6 / jobs;
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitNanos / 1e6;
+        }
+
+        // Jobs per second of printing time
+        public double getJobsPerSecond() {
+            return busyNanos == 0 ? 0 : jobsPrinted * 1e9 / busyNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s | Jobs: %d | Pages: %d | Failures: %d | Dropped: %d | Jobs/sec: %.1f | Mean wait: %.1f ms | Max wait: %.1f ms",
+                    name, jobsPrinted, pagesPrinted, failures, jobsDropped, getJobsPerSecond(), getMeanWaitMillis(), getMaxWaitMillis());
+        }
+    }
+
+    private final PrinterJobQueue queue;
+    private final Printer printer;
+    private final ThreadFactory threadFactory;
+    private final List<WorkerStats> stats = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * Create a dispatcher whose workers run on platform threads
+     * 
+     * @param queue the queue to drain
+     * @param printers number of printer workers
+     * @param printer the device each job is sent to
+     */
+    public PrinterDispatcher(PrinterJobQueue queue, int printers, Printer printer) {
+        this(queue, printers, printer, Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Create a dispatcher whose workers run on threads from the given factory
+     * 
+     * @param queue the queue to drain
+     * @param printers number of printer workers
+     * @param printer the device each job is sent to
+     * @param threadFactory creates the worker threads (platform or virtual)
+     */
+    public PrinterDispatcher(PrinterJobQueue queue, int printers, Printer printer, ThreadFactory threadFactory) {
+        if (printers <= 0) {
+            throw new IllegalArgumentException("Need at least one printer: " + printers);
+        }
+        this.queue = queue;
+        this.printer = printer;
+        this.threadFactory = threadFactory;
+        for (int i = 1; i <= printers; i++) {
+            stats.add(new WorkerStats("Printer-" + i));
+        }
+    }
+
+    /**
+     * Start the printer workers
+     */
+    public synchronized void start() {
+        if (running || !workers.isEmpty()) {
+            throw new IllegalStateException("Dispatcher already started");
+        }
+        running = true;
+        for (WorkerStats workerStats : stats) {
+            Thread worker = threadFactory.newThread(() -> runWorker(workerStats));
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    // Worker loop: take a job, print it, record the metrics; a failed job is re-queued
+    private void runWorker(WorkerStats workerStats) {
+        while (running) {
+            PrinterJobQueue.PrintJob job;
+            try {
+                job = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (job == null) {
+                continue;
+            }
+            long started = System.nanoTime();
+            long waited = started - job.submittedNanos;
+            Exception failure = null;
+            boolean interrupted = false;
+            try {
+                printer.print(job);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted = true;
+            } catch (Exception e) {
+                failure = e;
+            }
+            workerStats.busyNanos += System.nanoTime() - started;
+            workerStats.totalWaitNanos += waited;
+            workerStats.maxWaitNanos = Math.max(workerStats.maxWaitNanos, waited);
+            if (interrupted) {
+                // Not the job's fault: put it back untouched for the next run
+                requeue(job, workerStats);
+                return;
+            }
+            if (failure == null) {
+                workerStats.jobsPrinted++;
+                workerStats.pagesPrinted += job.pages;
+                continue;
+            }
+            workerStats.failures++;
+            workerStats.lastFailure = failure;
+            if (++job.failedAttempts < MAX_ATTEMPTS) {
+                requeue(job, workerStats);
+            } else {
+                workerStats.jobsDropped++;
+            }
+        }
+    }
+
+    // Put a job that was taken but not printed back into the queue
+    private void requeue(PrinterJobQueue.PrintJob job, WorkerStats workerStats) {
+        try {
+            queue.addJob(job);
+        } catch (RuntimeException e) {
+            // The queue's log could not record it; count the job as lost
+            workerStats.lastFailure = e;
+            workerStats.jobsDropped++;
+        }
+    }
+
+    /**
+     * Stop taking new jobs. Workers finish the job they are printing and then
+     * exit; jobs still waiting stay in the queue, as does a job whose print is
+     * interrupted.
+     */
+    public void shutdown() {
+        running = false;
+    }
+
+    /**
+     * Wait for all workers to exit after shutdown
+     * 
+     * @param timeout how long to wait
+     * @param unit the unit of timeout
+     * @return true if all workers exited, false if the timeout elapsed first
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<Thread> started;
+        synchronized (this) {
+            started = new ArrayList<>(workers);
+        }
+        for (Thread worker : started) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedJoin(worker, remaining);
+            if (worker.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the metrics of every worker
+     * 
+     * @return one entry per printer worker
+     */
+    public List<WorkerStats> getStats() {
+        return new ArrayList<>(stats);
+    }
+
+    // Jobs printed or dropped so far, across all workers
+    private long settledJobs() {
+        long settled = 0;
+        for (WorkerStats workerStats : stats) {
+            settled += workerStats.getJobsPrinted() + workerStats.getJobsDropped();
+        }
+        return settled;
+    }
+
+    /**
+     * Print the metrics of every worker and the pool totals
+     */
+    public void printStats() {
+        long jobs = 0;
+        long pages = 0;
+        for (WorkerStats workerStats : stats) {
+            System.out.println(workerStats);
+            jobs += workerStats.getJobsPrinted();
+            pages += workerStats.getPagesPrinted();
+        }
+        System.out.println("Total jobs: " + jobs + " | Total pages: " + pages);
+        for (WorkerStats workerStats : stats) {
+            if (workerStats.getLastFailure() != null) {
+                System.out.println(workerStats.getName() + " last failure: " + workerStats.getLastFailure());
+            }
+        }
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Multi-Printer Dispatcher ===\n");
+
+        PrinterJobQueue queue = new PrinterJobQueue(new PriorityJobScheduler());
+        String[] files = {"Report.pdf", "Invoice.docx", "Memo.txt", "Slides.pptx", "Images.zip"};
+        PrinterJobQueue.Priority[] priorities = PrinterJobQueue.Priority.values();
+        for (int id = 1; id <= 40; id++) {
+            queue.addJob(new PrinterJobQueue.PrintJob(id, files[id % files.length], 1 + (id * 7) % 20,
+                    priorities[id % priorities.length]));
+        }
+        System.out.println("Jobs queued: " + queue.getQueueSize());
+
+        // Simulated printers: 1 ms per page; every tenth job jams on its first try
+        // and is re-queued by the worker
+        PrinterDispatcher dispatcher = new PrinterDispatcher(queue, 4, job -> {
+            if (job.jobId % 10 == 0 && job.failedAttempts == 0) {
+                throw new IOException("Paper jam on job " + job.jobId);
+            }
+            Thread.sleep(job.pages);
+        });
+        long start = System.nanoTime();
+        dispatcher.start();
+
+        // Wait until every job is printed or dropped (a failed job is out of the
+        // queue while its worker re-queues it, so an empty queue is not enough)
+        while (dispatcher.settledJobs() < 40) {
+            Thread.sleep(10);
+        }
+        dispatcher.shutdown();
+        boolean finished = dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("All workers finished in-flight jobs: " + finished);
+        System.out.printf("Wall time: %.1f ms%n%n", elapsed / 1e6);
+        dispatcher.printStats();
+    }
+}
@@ -1,17 +1,83 @@
-public class PrinterJobQueue {
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Print job queue shared by any number of submitting threads and printer workers.
+ * All operations are thread-safe; take() and poll(timeout) block until a job is
+ * available, which is how PrinterDispatcher's workers pull their next job.
+ * 
+ * A queue created with open(directory, ...) is durable: every add and every
+ * processed job is recorded in a PrintJobLog, and reopening the directory after
+ * a crash or restart restores the jobs that were still waiting.
+ */
+public class PrinterJobQueue implements AutoCloseable {
+
+    // Priority levels, least urgent first
+    public enum Priority {
+        NORMAL("Normal"),
+        HIGH("High"),
+        URGENT("Urgent");
+
+        private final String label;
+
+        Priority(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Parse a priority label such as "High" (case-insensitive)
+         * 
+         * @param label the label to parse
+         * @return the matching priority
+         */
+        public static Priority fromLabel(String label) {
+            for (Priority priority : values()) {
+                if (priority.label.equalsIgnoreCase(label)) {
+                    return priority;
+                }
+            }
+            throw new IllegalArgumentException("Unknown priority: " + label);
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    // Submitter recorded for jobs created without one
+    static final String DEFAULT_SUBMITTER = "default";
 
     // PrintJob class to represent a print job
-    private static class PrintJob {
+    static class PrintJob {
         int jobId;
         String fileName;
         int pages;
-        String priority;
+        Priority priority;
+        // Who submitted the job, for fair-share scheduling
+        String submitter;
+        // System.nanoTime() when the job was added, for wait-time metrics
+        long submittedNanos;
+        // Print attempts that failed so far, so PrinterDispatcher can give up on a job
+        int failedAttempts;
 
         PrintJob(int jobId, String fileName, int pages, String priority) {
+            this(jobId, fileName, pages, Priority.fromLabel(priority));
+        }
+
+        PrintJob(int jobId, String fileName, int pages, Priority priority) {
+            this(jobId, fileName, pages, priority, DEFAULT_SUBMITTER);
+        }
+
+        PrintJob(int jobId, String fileName, int pages, Priority priority, String submitter) {
             this.jobId = jobId;
             this.fileName = fileName;
             this.pages = pages;
             this.priority = priority;
+            this.submitter = submitter;
         }
 
         @Override
@@ -20,84 +86,254 @@ public class PrinterJobQueue {
         }
     }
 
-    // Node class for linked list representation
-    private static class Node {
-        PrintJob job;
-        Node next;
+    /**
+     * Observer for job queue events. The queue never prints on addJob/processJob
+     * itself; attach CONSOLE for the demo output or your own audit hook.
+     */
+    public interface PrintJobListener {
+
+        // Listener that ignores every event (the default)
+        PrintJobListener NO_OP = new PrintJobListener() {
+        };
+
+        // Listener that prints every event, as the demo does
+        PrintJobListener CONSOLE = new PrintJobListener() {
+            @Override
+            public void onJobAdded(PrintJob job) {
+                System.out.println("Added to queue: " + job);
+            }
+
+            @Override
+            public void onJobProcessed(PrintJob job) {
+                System.out.println("Processing: " + job);
+            }
+
+            @Override
+            public void onProcessEmpty() {
+                System.out.println("No jobs in queue to process!");
+            }
 
-        Node(PrintJob job) {
-            this.job = job;
-            this.next = null;
+            @Override
+            public void onPeekEmpty() {
+                System.out.println("No jobs in queue!");
+            }
+        };
+
+        default void onJobAdded(PrintJob job) {
+        }
+
+        default void onJobProcessed(PrintJob job) {
+        }
+
+        default void onProcessEmpty() {
+        }
+
+        default void onPeekEmpty() {
         }
     }
 
-    private Node front;
-    private Node rear;
-    private int size;
+    private final JobScheduler scheduler;
+    private PrintJobListener listener = PrintJobListener.NO_OP;
+    // Guards the scheduler so producers and printer workers can share the queue
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    // Durable record of the queue, or null for an in-memory queue
+    private final PrintJobLog log;
 
-    // Constructor
+    // Constructor (jobs are processed in FIFO order)
     public PrinterJobQueue() {
-        this.front = null;
-        this.rear = null;
-        this.size = 0;
+        this(new FifoJobScheduler());
+    }
+
+    /**
+     * Create a queue that processes jobs in the order chosen by a scheduler,
+     * e.g. new PriorityJobScheduler() to serve Urgent jobs before Normal ones
+     * 
+     * @param scheduler the scheduling policy holding the queued jobs
+     */
+    public PrinterJobQueue(JobScheduler scheduler) {
+        this(scheduler, null);
+    }
+
+    /**
+     * Create a queue that uses one of the built-in scheduling policies
+     * 
+     * @param policy the scheduling policy, e.g. SchedulingPolicy.SHORTEST_JOB_FIRST
+     */
+    public PrinterJobQueue(SchedulingPolicy policy) {
+        this(policy.newScheduler());
+    }
+
+    private PrinterJobQueue(JobScheduler scheduler, PrintJobLog log) {
+        this.scheduler = scheduler;
+        this.log = log;
+    }
+
+    /**
+     * Open a durable queue stored in a directory, restoring the jobs that were
+     * added but not processed when it was last used
+     * Time Complexity: O(records in the log)
+     * 
+     * @param directory the directory holding the job log (created if missing)
+     * @param policy the scheduling policy for the restored and new jobs
+     * @return the queue, holding every recovered job
+     * @throws IOException if the log cannot be read or created
+     */
+    public static PrinterJobQueue open(Path directory, SchedulingPolicy policy) throws IOException {
+        return open(PrintJobLog.open(directory), policy.newScheduler());
+    }
+
+    /**
+     * Create a durable queue on an already opened log, restoring its jobs
+     * into the scheduler in their original arrival order
+     * 
+     * @param log the job log; the queue closes it on close()
+     * @param scheduler the scheduling policy holding the queued jobs
+     * @return the queue, holding every recovered job
+     */
+    public static PrinterJobQueue open(PrintJobLog log, JobScheduler scheduler) {
+        long now = System.nanoTime();
+        for (PrintJob job : log.liveJobs()) {
+            job.submittedNanos = now;
+            scheduler.add(job);
+        }
+        return new PrinterJobQueue(scheduler, log);
     }
 
     /**
      * Add a print job to the queue
-     * Time Complexity: O(1)
+     * Time Complexity: O(1) for FIFO and priority scheduling, O(log n) for the others
      * 
      * @param job the print job to add
+     * @throws IllegalArgumentException if the queue is durable and a job with the
+     *         same id is still queued (the log identifies jobs by id)
      */
     public void addJob(PrintJob job) {
-        Node newNode = new Node(job);
-        
-        if (rear == null) {
-            front = newNode;
-            rear = newNode;
-        } else {
-            rear.next = newNode;
-            rear = newNode;
+        lock.lock();
+        try {
+            if (log != null) {
+                if (log.isLive(job.jobId)) {
+                    throw new IllegalArgumentException("Job " + job.jobId + " is already in the queue");
+                }
+                log.appendAdd(job);
+            }
+            job.submittedNanos = System.nanoTime();
+            scheduler.add(job);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
         }
-        size++;
-        System.out.println("Added to queue: " + job);
+        listener.onJobAdded(job);
     }
 
     /**
      * Process (remove) the next job from the queue
-     * Time Complexity: O(1)
+     * Time Complexity: O(1) for FIFO and priority scheduling, O(log n) for the others
      * 
      * @return the next print job or null if queue is empty
      */
     public PrintJob processJob() {
-        if (front == null) {
-            System.out.println("No jobs in queue to process!");
+        PrintJob job;
+        lock.lock();
+        try {
+            job = pollScheduler();
+        } finally {
+            lock.unlock();
+        }
+        if (job == null) {
+            listener.onProcessEmpty();
             return null;
         }
 
-        PrintJob job = front.job;
-        front = front.next;
-        size--;
+        listener.onJobProcessed(job);
+        return job;
+    }
 
-        if (front == null) {
-            rear = null;
+    /**
+     * Take the next job, waiting until one is added if the queue is empty
+     * 
+     * @return the next print job
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public PrintJob take() throws InterruptedException {
+        PrintJob job;
+        lock.lockInterruptibly();
+        try {
+            while ((job = pollScheduler()) == null) {
+                notEmpty.await();
+            }
+        } finally {
+            lock.unlock();
         }
+        listener.onJobProcessed(job);
+        return job;
+    }
 
-        System.out.println("Processing: " + job);
+    /**
+     * Take the next job, waiting up to the given time for one to be added
+     * 
+     * @param timeout how long to wait
+     * @param unit the unit of timeout
+     * @return the next print job or null if none arrived in time
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public PrintJob poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        PrintJob job;
+        lock.lockInterruptibly();
+        try {
+            while ((job = pollScheduler()) == null) {
+                if (remaining <= 0) {
+                    return null;
+                }
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+        listener.onJobProcessed(job);
+        return job;
+    }
+
+    // Take the next job from the scheduler and record it as processed; caller holds the lock
+    private PrintJob pollScheduler() {
+        PrintJob job = scheduler.poll();
+        if (job != null && log != null) {
+            log.appendProcess(job);
+        }
         return job;
     }
 
     /**
      * Peek at the next job without removing it
-     * Time Complexity: O(1)
+     * Time Complexity: O(1) for FIFO and priority scheduling
      * 
      * @return the next print job or null if queue is empty
      */
     public PrintJob peekNextJob() {
-        if (front == null) {
-            System.out.println("No jobs in queue!");
+        PrintJob job;
+        lock.lock();
+        try {
+            job = scheduler.peek();
+        } finally {
+            lock.unlock();
+        }
+        if (job == null) {
+            listener.onPeekEmpty();
             return null;
         }
-        return front.job;
+        return job;
+    }
+
+    /**
+     * Attach a listener that is notified of job events
+     * Set it before the queue is shared with other threads; the listener
+     * is called outside the queue's lock, possibly from several threads
+     * 
+     * @param listener the listener to notify, or null to remove it
+     */
+    public void setListener(PrintJobListener listener) {
+        this.listener = listener == null ? PrintJobListener.NO_OP : listener;
     }
 
     /**
@@ -105,18 +341,18 @@ public class PrinterJobQueue {
      * Time Complexity: O(n)
      */
     public void displayQueue() {
-        if (front == null) {
-            System.out.println("Queue is empty!");
-            return;
-        }
+        lock.lock();
+        try {
+            if (scheduler.size() == 0) {
+                System.out.println("Queue is empty!");
+                return;
+            }
 
-        System.out.println("\n--- Current Queue Status ---");
-        Node current = front;
-        int position = 1;
-        while (current != null) {
-            System.out.println(position + ". " + current.job);
-            current = current.next;
-            position++;
+            System.out.println("\n--- Current Queue Status ---");
+            int[] position = {1};
+            scheduler.forEachJob(job -> System.out.println(position[0]++ + ". " + job));
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -126,7 +362,12 @@ public class PrinterJobQueue {
      * @return number of jobs
      */
     public int getQueueSize() {
-        return size;
+        lock.lock();
+        try {
+            return scheduler.size();
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -135,7 +376,25 @@ public class PrinterJobQueue {
      * @return true if queue is empty, false otherwise
      */
     public boolean isEmpty() {
-        return size == 0;
+        return getQueueSize() == 0;
+    }
+
+    /**
+     * Force the job log to disk and close it (no effect on an in-memory queue)
+     * 
+     * @throws IOException if the log cannot be flushed
+     */
+    @Override
+    public void close() throws IOException {
+        if (log == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            log.close();
+        } finally {
+            lock.unlock();
+        }
     }
 
     // Main method for testing
@@ -143,6 +402,7 @@ public class PrinterJobQueue {
         System.out.println("=== Printer Job Queue System ===\n");
 
         PrinterJobQueue printerQueue = new PrinterJobQueue();
+        printerQueue.setListener(PrintJobListener.CONSOLE);
 
         System.out.println("--- Adding Print Jobs ---");
         printerQueue.addJob(new PrintJob(1, "Report.pdf", 10, "Normal"));
@@ -178,5 +438,32 @@ public class PrinterJobQueue {
         }
 
         printerQueue.displayQueue();
+
+        System.out.println("\n--- Priority Scheduling (aging limit 3) ---");
+        PrinterJobQueue priorityQueue = new PrinterJobQueue(new PriorityJobScheduler(3));
+        priorityQueue.setListener(PrintJobListener.CONSOLE);
+        priorityQueue.addJob(new PrintJob(8, "Images.zip", 50, Priority.NORMAL));
+        priorityQueue.addJob(new PrintJob(9, "Slides.pptx", 20, Priority.HIGH));
+        priorityQueue.addJob(new PrintJob(10, "Alert10.pdf", 1, Priority.URGENT));
+        priorityQueue.displayQueue();
+        System.out.println();
+        // A steady stream of later Urgent jobs: the earlier Normal and High jobs age
+        // past the limit and are served before the Urgent jobs that arrived after them
+        int turn = 0;
+        int highTurn = -1;
+        int normalTurn = -1;
+        for (int id = 11; id <= 15 || !priorityQueue.isEmpty(); id++, turn++) {
+            if (id <= 15) {
+                priorityQueue.addJob(new PrintJob(id, "Alert" + id + ".pdf", 1, Priority.URGENT));
+            }
+            PrintJob job = priorityQueue.processJob();
+            if (job.priority == Priority.HIGH) {
+                highTurn = turn;
+            } else if (job.priority == Priority.NORMAL) {
+                normalTurn = turn;
+            }
+        }
+        // Jobs 8 and 9 arrived together and age out together, so High still goes first
+        System.out.println("Aged High job printed before aged Normal job: " + (highTurn < normalTurn));
     }
 }
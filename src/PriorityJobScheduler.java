@@ -0,0 +1,149 @@
+import java.util.function.Consumer;
+
+/**
+ * Priority scheduling with one FIFO bucket per priority level.
+ * 
+ * addJob appends to the bucket for the job's priority and processJob takes the
+ * front of the highest non-empty bucket, so both are O(1). Within a bucket jobs
+ * print in arrival order (jobId order when ids are handed out increasingly).
+ * 
+ * To stop a steady stream of urgent work from starving Normal and High jobs,
+ * each job records how many jobs had been dispatched when it arrived. Once the
+ * front job of a lower bucket has watched agingLimit other jobs go ahead of it,
+ * it is served next regardless of priority.
+ */
+public class PriorityJobScheduler implements JobScheduler {
+
+    // Default number of dispatches a job may wait before it is promoted
+    public static final int DEFAULT_AGING_LIMIT = 16;
+
+    private static final PrinterJobQueue.Priority[] LEVELS = PrinterJobQueue.Priority.values();
+
+    // Node class for the per-priority linked lists
+    private static class Node {
+        final PrinterJobQueue.PrintJob job;
+        final long arrival;
+        Node next;
+
+        Node(PrinterJobQueue.PrintJob job, long arrival) {
+            this.job = job;
+            this.arrival = arrival;
+        }
+    }
+
+    // Index is Priority.ordinal(); higher ordinal means more urgent
+    private final Node[] fronts = new Node[LEVELS.length];
+    private final Node[] rears = new Node[LEVELS.length];
+    private final int agingLimit;
+    private long dispatched;
+    private int size;
+
+    // Constructor
+    public PriorityJobScheduler() {
+        this(DEFAULT_AGING_LIMIT);
+    }
+
+    /**
+     * Create a priority scheduler with a custom starvation bound
+     * 
+     * @param agingLimit how many jobs may be dispatched ahead of a waiting job
+     *                   before it is served (at least 1), or Integer.MAX_VALUE to disable aging
+     * @throws IllegalArgumentException if agingLimit is less than 1
+     */
+    public PriorityJobScheduler(int agingLimit) {
+        if (agingLimit < 1) {
+            throw new IllegalArgumentException("Aging limit must be at least 1: " + agingLimit);
+        }
+        this.agingLimit = agingLimit;
+    }
+
+    /**
+     * Add a job to the bucket for its priority
+     * Time Complexity: O(1)
+     */
+    @Override
+    public void add(PrinterJobQueue.PrintJob job) {
+        int level = job.priority.ordinal();
+        Node newNode = new Node(job, dispatched);
+        if (rears[level] == null) {
+            fronts[level] = newNode;
+        } else {
+            rears[level].next = newNode;
+        }
+        rears[level] = newNode;
+        size++;
+    }
+
+    /**
+     * Remove the next job: an aged lower-priority job if there is one,
+     * otherwise the front of the most urgent non-empty bucket
+     * Time Complexity: O(1) (one check per priority level)
+     */
+    @Override
+    public PrinterJobQueue.PrintJob poll() {
+        int level = selectLevel();
+        if (level < 0) {
+            return null;
+        }
+        Node node = fronts[level];
+        fronts[level] = node.next;
+        if (fronts[level] == null) {
+            rears[level] = null;
+        }
+        size--;
+        dispatched++;
+        return node.job;
+    }
+
+    @Override
+    public PrinterJobQueue.PrintJob peek() {
+        int level = selectLevel();
+        return level < 0 ? null : fronts[level].job;
+    }
+
+    // Pick the bucket poll should take from, or -1 when all are empty
+    private int selectLevel() {
+        int top = -1;
+        for (int level = LEVELS.length - 1; level >= 0; level--) {
+            if (fronts[level] != null) {
+                top = level;
+                break;
+            }
+        }
+        if (top < 0 || agingLimit == Integer.MAX_VALUE) {
+            return top;
+        }
+        // Among the lower buckets, serve the longest-waiting front job if it has aged out;
+        // it must have arrived before the top bucket's front, or it would jump ahead of
+        // more urgent work that has waited even longer. Scanning down from the top with a
+        // strict compare keeps aged jobs of equal age in priority order
+        int aged = -1;
+        long oldestArrival = fronts[top].arrival;
+        for (int level = top - 1; level >= 0; level--) {
+            Node front = fronts[level];
+            if (front != null && dispatched - front.arrival >= agingLimit && front.arrival < oldestArrival) {
+                aged = level;
+                oldestArrival = front.arrival;
+            }
+        }
+        return aged >= 0 ? aged : top;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Visit jobs bucket by bucket, most urgent first
+     * (aging may let a lower-priority job print earlier than listed)
+     */
+    @Override
+    public void forEachJob(Consumer<PrinterJobQueue.PrintJob> action) {
+        for (int level = LEVELS.length - 1; level >= 0; level--) {
+            for (Node current = fronts[level]; current != null; current = current.next) {
+                action.accept(current.job);
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+import java.util.IntSummaryStatistics;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Simple timing harness comparing queue operations.
+ * 
+ * The project has no build system, so this is a plain main-method benchmark
+ * rather than JMH: each case is warmed up first so the JIT has compiled it,
+ * then timed over several rounds and the best round is reported.
+ * Results are indicative only; run with a quiet machine.
+ */
+public class QueueBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    // Keeps results alive so the JIT cannot remove the measured work
+    private static long sink;
+
+    private interface Case {
+        long run();
+    }
+
+    /**
+     * Time a benchmark case and print nanoseconds per element
+     * 
+     * @param name label for the output
+     * @param elements number of elements processed by one run
+     * @param benchmark the work to time
+     */
+    private static void measure(String name, long elements, Case benchmark) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += benchmark.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += benchmark.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-40s %8.3f ns/element%n", name, (double) best / elements);
+    }
+
+    // Bulk operations on BasicQueue versus the per-element loop
+    private static void benchmarkBulk() {
+        System.out.println("--- BasicQueue: per-element vs bulk (batches of 4096) ---");
+        final int batch = 4096;
+        final int batches = 2_000;
+        final int[] source = new int[batch];
+        final int[] target = new int[batch];
+        for (int i = 0; i < batch; i++) {
+            source[i] = i;
+        }
+        final BasicQueue queue = new BasicQueue(batch * 2 + 3);
+
+        measure("enqueue/dequeue loop", (long) batch * batches, () -> {
+            long sum = 0;
+            for (int b = 0; b < batches; b++) {
+                for (int i = 0; i < batch; i++) {
+                    queue.enqueue(source[i]);
+                }
+                for (int i = 0; i < batch; i++) {
+                    target[i] = queue.dequeue();
+                }
+                sum += target[b % batch];
+            }
+            return sum;
+        });
+
+        measure("enqueueAll/dequeueInto", (long) batch * batches, () -> {
+            long sum = 0;
+            for (int b = 0; b < batches; b++) {
+                queue.enqueueAll(source, 0, batch);
+                queue.dequeueInto(target, 0, batch);
+                sum += target[b % batch];
+            }
+            return sum;
+        });
+
+        final BasicQueue other = new BasicQueue(batch * 2 + 3);
+        measure("drainTo (both directions)", (long) batch * batches, () -> {
+            queue.enqueueAll(source, 0, batch);
+            for (int b = 0; b < batches; b++) {
+                if ((b & 1) == 0) {
+                    queue.drainTo(other);
+                } else {
+                    other.drainTo(queue);
+                }
+            }
+            long size = queue.getSize() + other.getSize();
+            queue.dequeueInto(target, 0, batch);
+            other.dequeueInto(target, 0, batch);
+            return size;
+        });
+    }
+
+    // Slot indexing: plain constructor (wrap by compare) versus power-of-two bitmask
+    private static void benchmarkIndexing() {
+        System.out.println("--- BasicQueue indexing: exact capacity vs power of two (1M elements) ---");
+        final int elements = 1_000_000;
+        final BasicQueue plain = new BasicQueue(elements + 3);
+        final BasicQueue masked = BasicQueue.powerOfTwo(elements + 3);
+        for (BasicQueue queue : new BasicQueue[] {plain, masked}) {
+            String label = queue == plain ? "new BasicQueue" : "BasicQueue.powerOfTwo";
+            measure(label + " enqueue/dequeue", elements, () -> {
+                for (int i = 0; i < elements; i++) {
+                    queue.enqueue(i);
+                }
+                long sum = 0;
+                while (!queue.isEmpty()) {
+                    sum += queue.dequeue();
+                }
+                return sum;
+            });
+            for (int i = 0; i < elements; i++) {
+                queue.enqueue(i);
+            }
+            measure(label + " get(position)", elements, () -> {
+                long sum = 0;
+                for (int i = 0; i < elements; i++) {
+                    sum += queue.get(i);
+                }
+                return sum;
+            });
+            while (!queue.isEmpty()) {
+                queue.dequeue();
+            }
+        }
+    }
+
+    // LinkedListQueue: one Node per element versus chunked segments
+    private static void benchmarkChunked() {
+        System.out.println("--- LinkedListQueue: nodes vs chunked segments (1M elements) ---");
+        final int elements = 1_000_000;
+        final LinkedListQueue nodes = new LinkedListQueue();
+        final LinkedListQueue chunks = new LinkedListQueue(256);
+        for (LinkedListQueue queue : new LinkedListQueue[] {nodes, chunks}) {
+            measure(queue == nodes ? "Node per element" : "256-element chunks", elements, () -> {
+                for (int i = 0; i < elements; i++) {
+                    queue.enqueue(i);
+                }
+                long sum = 0;
+                while (!queue.isEmpty()) {
+                    sum += queue.dequeue();
+                }
+                return sum;
+            });
+        }
+    }
+
+    // Fork/join sum and count at increasing pool sizes
+    private static void benchmarkParallel() {
+        final int elements = 8_000_000;
+        final int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("--- QueueParallel: sum + count over 8M elements (" + cores + " cores available) ---");
+        final BasicQueue arrayQueue = new BasicQueue(elements);
+        final LinkedListQueue chunkedQueue = new LinkedListQueue(1024);
+        for (int i = 0; i < elements; i++) {
+            arrayQueue.enqueue(i & 1023);
+            chunkedQueue.enqueue(i & 1023);
+        }
+
+        final ForkJoinPool single = new ForkJoinPool(1);
+        measure("BasicQueue sequential", elements, () ->
+                QueueParallel.sum(arrayQueue.spliterator(), single, Long.MAX_VALUE)
+                        + QueueParallel.count(arrayQueue.spliterator(), 7, single, Long.MAX_VALUE));
+        single.shutdown();
+        for (int workers = 1; workers <= cores; workers *= 2) {
+            final ForkJoinPool pool = new ForkJoinPool(workers);
+            measure("BasicQueue " + workers + " worker(s)", elements, () ->
+                    QueueParallel.sum(arrayQueue.spliterator(), pool, QueueParallel.DEFAULT_THRESHOLD)
+                            + QueueParallel.count(arrayQueue.spliterator(), 7, pool, QueueParallel.DEFAULT_THRESHOLD));
+            measure("Chunked LinkedListQueue " + workers + " worker(s)", elements, () ->
+                    QueueParallel.sum(chunkedQueue.spliterator(), pool, QueueParallel.DEFAULT_THRESHOLD)
+                            + QueueParallel.count(chunkedQueue.spliterator(), 7, pool, QueueParallel.DEFAULT_THRESHOLD));
+            pool.shutdown();
+        }
+    }
+
+    // One-pass summary: per-element IntSummaryStatistics vs the unrolled array scan
+    private static void benchmarkSummary() {
+        System.out.println("--- BasicQueue summary (count/sum/min/max) over 8M elements ---");
+        final int elements = 8_000_000;
+        final BasicQueue queue = new BasicQueue(elements);
+        for (int i = 0; i < elements; i++) {
+            queue.enqueue((int) (i * 2654435761L));
+        }
+        measure("IntSummaryStatistics.accept per element", elements, () -> {
+            IntSummaryStatistics summary = new IntSummaryStatistics();
+            queue.spliterator().forEachRemaining(summary);
+            return summary.getSum() + summary.getMax();
+        });
+        measure("QueueSummary.of (unrolled array scan)", elements, () -> {
+            IntSummaryStatistics summary = QueueSummary.of(queue);
+            return summary.getSum() + summary.getMax();
+        });
+    }
+
+    // Main method for running the benchmarks
+    public static void main(String[] args) {
+        System.out.println("=== Queue Benchmarks ===\n");
+        benchmarkIndexing();
+        System.out.println();
+        benchmarkBulk();
+        System.out.println();
+        benchmarkChunked();
+        System.out.println();
+        benchmarkParallel();
+        System.out.println();
+        benchmarkSummary();
+        System.out.println("\n(checksum " + sink + ")");
+    }
+}
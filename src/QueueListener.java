@@ -0,0 +1,97 @@
+/**
+ * Observer for the core operations of the int queues.
+ * 
+ * The queues themselves never print or build strings on enqueue/dequeue/search;
+ * they report what happened to their listener instead. The default listener is
+ * NO_OP, whose empty methods are inlined away by the JIT, so an unobserved queue
+ * pays nothing. Attach CONSOLE to get the demo output, or your own implementation
+ * for audit hooks. Only override the callbacks you need.
+ */
+public interface QueueListener {
+
+    // Listener that ignores every event (the default for all queues)
+    QueueListener NO_OP = new QueueListener() {
+    };
+
+    // Listener that prints every event, as the demos do
+    QueueListener CONSOLE = new QueueListener() {
+        @Override
+        public void onEnqueue(int element) {
+            System.out.println("Enqueued: " + element);
+        }
+
+        @Override
+        public void onDequeue(int element) {
+            System.out.println("Dequeued: " + element);
+        }
+
+        @Override
+        public void onRejected(int element) {
+            System.out.println("Queue is full! Cannot enqueue " + element);
+        }
+
+        @Override
+        public void onDequeueEmpty() {
+            System.out.println("Queue is empty! Cannot dequeue.");
+        }
+
+        @Override
+        public void onPeekEmpty() {
+            System.out.println("Queue is empty!");
+        }
+
+        @Override
+        public void onSearch(int element, boolean found) {
+            if (found) {
+                System.out.println("Element " + element + " found in queue");
+            } else {
+                System.out.println("Element " + element + " not found in queue");
+            }
+        }
+    };
+
+    /**
+     * Called after an element has been added to the rear of the queue
+     * 
+     * @param element the element that was added
+     */
+    default void onEnqueue(int element) {
+    }
+
+    /**
+     * Called after an element has been removed from the front of the queue
+     * 
+     * @param element the element that was removed
+     */
+    default void onDequeue(int element) {
+    }
+
+    /**
+     * Called when an element could not be added because the queue is full
+     * 
+     * @param element the element that was rejected
+     */
+    default void onRejected(int element) {
+    }
+
+    /**
+     * Called when dequeue is attempted on an empty queue
+     */
+    default void onDequeueEmpty() {
+    }
+
+    /**
+     * Called when peek is attempted on an empty queue
+     */
+    default void onPeekEmpty() {
+    }
+
+    /**
+     * Called after a search has completed
+     * 
+     * @param element the element searched for
+     * @param found whether the element was found
+     */
+    default void onSearch(int element, boolean found) {
+    }
+}
@@ -1,4 +1,14 @@
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 public class QueueMerge {
 
@@ -32,6 +42,52 @@ public class QueueMerge {
         return mergedQueue;
     }
 
+    /**
+     * Simple merge of two BasicQueues
+     * Both queues are drained into the new queue with one array copy per
+     * contiguous run, so both are left empty
+     * 
+     * Time Complexity: O(n + m)
+     * Space Complexity: O(n + m)
+     * 
+     * @param queue1 first queue, empty afterwards
+     * @param queue2 second queue, empty afterwards
+     * @return merged queue
+     */
+    public static BasicQueue mergeQueues(BasicQueue queue1, BasicQueue queue2) {
+        System.out.println("Merging two queues...");
+
+        BasicQueue mergedQueue = new BasicQueue(Math.max(1, queue1.getSize() + queue2.getSize()));
+
+        // Move each queue's contiguous runs with array copies
+        queue1.drainTo(mergedQueue);
+        queue2.drainTo(mergedQueue);
+
+        System.out.println("Merge completed!");
+        return mergedQueue;
+    }
+
+    /**
+     * Simple merge of two linked queues by splicing
+     * queue2's chain of nodes (or chunks) is linked onto queue1's rear, so no
+     * element is copied and nothing is allocated; queue2 is left empty
+     * 
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     * 
+     * @param queue1 first queue, which becomes the merged queue
+     * @param queue2 second queue
+     * @return queue1, now holding the elements of both queues
+     */
+    public static LinkedListQueue mergeQueues(LinkedListQueue queue1, LinkedListQueue queue2) {
+        System.out.println("Merging two queues...");
+
+        queue1.concat(queue2);
+
+        System.out.println("Merge completed!");
+        return queue1;
+    }
+
     /**
      * Merge two queues without modifying originals
      * Creates copies and merges them
@@ -62,6 +118,29 @@ public class QueueMerge {
         return mergedQueue;
     }
 
+    /**
+     * Merge two BasicQueues without modifying originals
+     * Each queue's runs are copied straight into the merged queue, with no
+     * intermediate copies
+     * 
+     * Time Complexity: O(n + m)
+     * Space Complexity: O(n + m)
+     * 
+     * @param queue1 first queue
+     * @param queue2 second queue
+     * @return merged queue
+     */
+    public static BasicQueue mergQueuesNonDestructive(BasicQueue queue1, BasicQueue queue2) {
+        System.out.println("Merging two queues (non-destructive)...");
+
+        BasicQueue mergedQueue = new BasicQueue(Math.max(1, queue1.getSize() + queue2.getSize()));
+        appendAll(queue1, mergedQueue);
+        appendAll(queue2, mergedQueue);
+
+        System.out.println("Merge completed!");
+        return mergedQueue;
+    }
+
     /**
      * Merge two sorted queues into a single sorted queue
      * Assumes both input queues are already sorted
@@ -101,6 +180,266 @@ public class QueueMerge {
         return mergedQueue;
     }
 
+    /**
+     * Merge two sorted BasicQueues into a single sorted queue
+     * Assumes both input queues are already sorted; they are not modified
+     * 
+     * Time Complexity: O(n + m)
+     * Space Complexity: O(n + m)
+     * 
+     * @param queue1 first sorted queue
+     * @param queue2 second sorted queue
+     * @return merged sorted queue
+     */
+    public static BasicQueue mergeSortedQueues(BasicQueue queue1, BasicQueue queue2) {
+        System.out.println("Merging two sorted queues...");
+
+        int size1 = queue1.getSize();
+        int size2 = queue2.getSize();
+        BasicQueue mergedQueue = new BasicQueue(Math.max(1, size1 + size2));
+
+        // Copy each queue out run by run, then merge the two arrays in one pass
+        int[] first = toArray(queue1);
+        int[] second = toArray(queue2);
+        int[] merged = new int[size1 + size2];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < size1 && j < size2) {
+            merged[k++] = first[i] <= second[j] ? first[i++] : second[j++];
+        }
+        System.arraycopy(first, i, merged, k, size1 - i);
+        System.arraycopy(second, j, merged, k + size1 - i, size2 - j);
+        mergedQueue.enqueueAll(merged, 0, merged.length);
+
+        System.out.println("Sorted merge completed!");
+        return mergedQueue;
+    }
+
+    /**
+     * Merge any number of sorted queues into a single sorted queue (k-way merge)
+     * A min-heap holds the current front of every queue, so each element costs
+     * O(log k) instead of the O(k) of merging the queues pairwise; equal
+     * elements keep the order of the queues they come from.
+     * The input queues are not modified
+     * 
+     * Time Complexity: O(n log k) where n is the total size and k the number of queues
+     * Space Complexity: O(n + k)
+     * 
+     * @param queues array of sorted queues
+     * @return merged sorted queue
+     */
+    public static LinkedList<Integer> mergeSortedQueues(LinkedList<Integer>[] queues) {
+        System.out.println("Merging " + queues.length + " sorted queues...");
+
+        LinkedList<Integer> mergedQueue = new LinkedList<>();
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Iterator<Integer>[] cursors = new Iterator[queues.length];
+        HeadHeap heads = new HeadHeap(queues.length);
+        for (int i = 0; i < queues.length; i++) {
+            cursors[i] = queues[i].iterator();
+            if (cursors[i].hasNext()) {
+                heads.add(i, cursors[i].next());
+            }
+        }
+
+        while (!heads.isEmpty()) {
+            int source = heads.topSource();
+            mergedQueue.addLast(heads.topValue());
+            if (cursors[source].hasNext()) {
+                heads.replaceTop(cursors[source].next());
+            } else {
+                heads.removeTop();
+            }
+        }
+
+        System.out.println("Sorted merge of " + queues.length + " queues completed!");
+        return mergedQueue;
+    }
+
+    /**
+     * Merge any number of sorted BasicQueues into a single sorted queue (k-way merge)
+     * Same min-heap merge as the LinkedList version; each queue is read by
+     * position, so the inputs are not modified
+     * 
+     * Time Complexity: O(n log k) where n is the total size and k the number of queues
+     * Space Complexity: O(n + k)
+     * 
+     * @param queues array of sorted queues
+     * @return merged sorted queue
+     */
+    public static BasicQueue mergeSortedQueues(BasicQueue[] queues) {
+        System.out.println("Merging " + queues.length + " sorted queues...");
+
+        BasicQueue mergedQueue = new BasicQueue(Math.max(1, totalSize(queues)));
+        int[] positions = new int[queues.length];
+        HeadHeap heads = new HeadHeap(queues.length);
+        for (int i = 0; i < queues.length; i++) {
+            if (!queues[i].isEmpty()) {
+                heads.add(i, queues[i].get(0));
+            }
+        }
+
+        while (!heads.isEmpty()) {
+            int source = heads.topSource();
+            mergedQueue.enqueue(heads.topValue());
+            int next = ++positions[source];
+            if (next < queues[source].getSize()) {
+                heads.replaceTop(queues[source].get(next));
+            } else {
+                heads.removeTop();
+            }
+        }
+
+        System.out.println("Sorted merge of " + queues.length + " queues completed!");
+        return mergedQueue;
+    }
+
+    /**
+     * Merge any number of sorted queues into a single sorted queue, emptying the inputs
+     * Same k-way merge as mergeSortedQueues, but each element is removed from its
+     * queue as it is merged, so no copy of the inputs is kept alongside the result
+     * 
+     * Time Complexity: O(n log k)
+     * Space Complexity: O(k) beyond the merged queue
+     * 
+     * @param queues array of sorted queues, all empty afterwards
+     * @return merged sorted queue
+     */
+    public static LinkedList<Integer> mergeSortedQueuesConsuming(LinkedList<Integer>[] queues) {
+        System.out.println("Merging " + queues.length + " sorted queues (consuming)...");
+
+        LinkedList<Integer> mergedQueue = new LinkedList<>();
+        HeadHeap heads = new HeadHeap(queues.length);
+        for (int i = 0; i < queues.length; i++) {
+            if (!queues[i].isEmpty()) {
+                heads.add(i, queues[i].removeFirst());
+            }
+        }
+
+        while (!heads.isEmpty()) {
+            int source = heads.topSource();
+            mergedQueue.addLast(heads.topValue());
+            if (!queues[source].isEmpty()) {
+                heads.replaceTop(queues[source].removeFirst());
+            } else {
+                heads.removeTop();
+            }
+        }
+
+        System.out.println("Sorted merge of " + queues.length + " queues completed!");
+        return mergedQueue;
+    }
+
+    /**
+     * Merge any number of sorted BasicQueues into a single sorted queue, emptying the inputs
+     * Each element is dequeued from its queue as it is merged
+     * 
+     * Time Complexity: O(n log k)
+     * Space Complexity: O(k) beyond the merged queue
+     * 
+     * @param queues array of sorted queues, all empty afterwards
+     * @return merged sorted queue
+     */
+    public static BasicQueue mergeSortedQueuesConsuming(BasicQueue[] queues) {
+        System.out.println("Merging " + queues.length + " sorted queues (consuming)...");
+
+        BasicQueue mergedQueue = new BasicQueue(Math.max(1, totalSize(queues)));
+        HeadHeap heads = new HeadHeap(queues.length);
+        for (int i = 0; i < queues.length; i++) {
+            if (!queues[i].isEmpty()) {
+                heads.add(i, queues[i].dequeue());
+            }
+        }
+
+        while (!heads.isEmpty()) {
+            int source = heads.topSource();
+            mergedQueue.enqueue(heads.topValue());
+            if (!queues[source].isEmpty()) {
+                heads.replaceTop(queues[source].dequeue());
+            } else {
+                heads.removeTop();
+            }
+        }
+
+        System.out.println("Sorted merge of " + queues.length + " queues completed!");
+        return mergedQueue;
+    }
+
+    // Binary min-heap of queue indices ordered by each queue's current front
+    // element; ties go to the lower index so the merge is stable
+    private static class HeadHeap {
+        private final int[] sources;
+        private final int[] heads;
+        private int size;
+
+        HeadHeap(int queues) {
+            this.sources = new int[queues];
+            this.heads = new int[queues];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int topSource() {
+            return sources[0];
+        }
+
+        int topValue() {
+            return heads[sources[0]];
+        }
+
+        void add(int source, int head) {
+            heads[source] = head;
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!less(source, sources[parent])) {
+                    break;
+                }
+                sources[i] = sources[parent];
+                i = parent;
+            }
+            sources[i] = source;
+        }
+
+        // The top queue's next element becomes its new front
+        void replaceTop(int head) {
+            heads[sources[0]] = head;
+            siftDown(sources[0]);
+        }
+
+        // The top queue has run out of elements
+        void removeTop() {
+            size--;
+            if (size > 0) {
+                siftDown(sources[size]);
+            }
+        }
+
+        private void siftDown(int source) {
+            int i = 0;
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && less(sources[child + 1], sources[child])) {
+                    child++;
+                }
+                if (!less(sources[child], source)) {
+                    break;
+                }
+                sources[i] = sources[child];
+                i = child;
+            }
+            sources[i] = source;
+        }
+
+        private boolean less(int a, int b) {
+            return heads[a] < heads[b] || (heads[a] == heads[b] && a < b);
+        }
+    }
+
     /**
      * Merge multiple queues into a single queue
      * 
@@ -125,6 +464,29 @@ public class QueueMerge {
         return mergedQueue;
     }
 
+    /**
+     * Merge multiple BasicQueues into a single queue without modifying them
+     * The merged queue is sized once and each queue is appended run by run
+     * 
+     * Time Complexity: O(n1 + n2 + ... + nk)
+     * Space Complexity: O(n1 + n2 + ... + nk)
+     * 
+     * @param queues array of queues to merge
+     * @return merged queue
+     */
+    public static BasicQueue mergeMultipleQueues(BasicQueue[] queues) {
+        System.out.println("Merging " + queues.length + " queues...");
+
+        BasicQueue mergedQueue = new BasicQueue(Math.max(1, totalSize(queues)));
+
+        for (BasicQueue queue : queues) {
+            appendAll(queue, mergedQueue);
+        }
+
+        System.out.println("Merge of " + queues.length + " queues completed!");
+        return mergedQueue;
+    }
+
     /**
      * Merge queues with interleaving pattern
      * Alternates between queues when merging
@@ -157,6 +519,439 @@ public class QueueMerge {
         return mergedQueue;
     }
 
+    /**
+     * Merge BasicQueues with interleaving pattern
+     * Alternates between the queues while both have elements, then appends the
+     * rest of the longer one; the inputs are not modified
+     * 
+     * Time Complexity: O(n + m)
+     * Space Complexity: O(n + m)
+     * 
+     * @param queue1 first queue
+     * @param queue2 second queue
+     * @return merged queue with interleaved elements
+     */
+    public static BasicQueue mergeInterleaved(BasicQueue queue1, BasicQueue queue2) {
+        System.out.println("Merging with interleave pattern...");
+
+        int size1 = queue1.getSize();
+        int size2 = queue2.getSize();
+        BasicQueue mergedQueue = new BasicQueue(Math.max(1, size1 + size2));
+
+        // Alternate while both have elements, then copy the longer queue's tail
+        int[] first = toArray(queue1);
+        int[] second = toArray(queue2);
+        int[] merged = new int[size1 + size2];
+        int shared = Math.min(size1, size2);
+        for (int i = 0; i < shared; i++) {
+            merged[2 * i] = first[i];
+            merged[2 * i + 1] = second[i];
+        }
+        System.arraycopy(first, shared, merged, 2 * shared, size1 - shared);
+        System.arraycopy(second, shared, merged, 2 * shared, size2 - shared);
+        mergedQueue.enqueueAll(merged, 0, merged.length);
+
+        System.out.println("Interleaved merge completed!");
+        return mergedQueue;
+    }
+
+    // ---- Parallel merges into one pre-sized int[] ----
+
+    /**
+     * Merge multiple queues into a single array, copying the queues concurrently
+     * Each queue's offset in the output is the prefix sum of the sizes before it,
+     * so every queue (or group of small queues) is copied by its own fork/join
+     * task without coordination. The input queues are not modified
+     * 
+     * Time Complexity: O(n / p) with p workers
+     * Space Complexity: O(n + k)
+     * 
+     * @param queues array of queues to merge
+     * @param pool the pool to run on
+     * @return the merged elements, front to rear, queue after queue
+     */
+    public static int[] mergeMultipleQueuesParallel(BasicQueue[] queues, ForkJoinPool pool) {
+        System.out.println("Merging " + queues.length + " queues in parallel...");
+
+        int[] offsets = new int[queues.length + 1];
+        for (int i = 0; i < queues.length; i++) {
+            offsets[i + 1] = addSize(offsets[i], queues[i].getSize());
+        }
+        int[] merged = new int[offsets[queues.length]];
+        pool.invoke(new CopyTask(queues, null, offsets, merged, 0, queues.length));
+
+        System.out.println("Parallel merge of " + queues.length + " queues completed!");
+        return merged;
+    }
+
+    /**
+     * Merge multiple LinkedLists into a single array, copying the lists concurrently
+     * Offsets come from the prefix sums of the sizes, as for BasicQueues; each
+     * task walks and unboxes its own lists. The input lists are not modified
+     * 
+     * Time Complexity: O(n / p) with p workers
+     * Space Complexity: O(n + k)
+     * 
+     * @param queues array of queues to merge
+     * @param pool the pool to run on
+     * @return the merged elements, front to rear, queue after queue
+     */
+    public static int[] mergeMultipleQueuesParallel(LinkedList<Integer>[] queues, ForkJoinPool pool) {
+        System.out.println("Merging " + queues.length + " queues in parallel...");
+
+        int[] offsets = new int[queues.length + 1];
+        for (int i = 0; i < queues.length; i++) {
+            offsets[i + 1] = addSize(offsets[i], queues[i].size());
+        }
+        int[] merged = new int[offsets[queues.length]];
+        pool.invoke(new CopyTask(null, queues, offsets, merged, 0, queues.length));
+
+        System.out.println("Parallel merge of " + queues.length + " queues completed!");
+        return merged;
+    }
+
+    /**
+     * Merge sorted queues into a single sorted array in parallel
+     * Splitter values sampled from the queues divide the value range into
+     * partitions; a binary search finds where each partition starts in every
+     * queue, and each partition is k-way merged by its own task straight into
+     * its slice of the output. Equal elements always fall in the same
+     * partition, so the result matches mergeSortedQueues exactly.
+     * Heavily repeated values can leave the partitions unbalanced.
+     * The input queues are not modified
+     * 
+     * Time Complexity: O((n log k) / p + p k log n) with p workers
+     * Space Complexity: O(n + p k)
+     * 
+     * @param queues array of sorted queues
+     * @param pool the pool to run on
+     * @return the merged sorted elements
+     */
+    public static int[] mergeSortedQueuesParallel(BasicQueue[] queues, ForkJoinPool pool) {
+        System.out.println("Merging " + queues.length + " sorted queues in parallel...");
+
+        int total = totalSize(queues);
+        int parts = (int) Math.max(1, Math.min(pool.getParallelism() * 4L, total / QueueParallel.DEFAULT_THRESHOLD));
+        int[] splitters = sampleSplitters(queues, parts);
+
+        // cuts[j][i]: position in queue i where partition j starts
+        int[][] cuts = new int[parts + 1][];
+        cuts[0] = new int[queues.length];
+        for (int j = 1; j < parts; j++) {
+            cuts[j] = new int[queues.length];
+            for (int i = 0; i < queues.length; i++) {
+                cuts[j][i] = lowerBound(queues[i], splitters[j - 1]);
+            }
+        }
+        cuts[parts] = new int[queues.length];
+        for (int i = 0; i < queues.length; i++) {
+            cuts[parts][i] = queues[i].getSize();
+        }
+
+        int[] merged = new int[total];
+        pool.invoke(new PartitionTask(queues, cuts, merged, 0, parts));
+
+        System.out.println("Parallel sorted merge of " + queues.length + " queues completed!");
+        return merged;
+    }
+
+    // Running total of merged sizes, checked to fit in one array
+    private static int addSize(int total, int size) {
+        long sum = (long) total + size;
+        if (sum > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Merged queue would hold " + sum + " elements");
+        }
+        return (int) sum;
+    }
+
+    // parts - 1 ascending splitters taken from evenly spaced samples of every queue
+    private static int[] sampleSplitters(BasicQueue[] queues, int parts) {
+        int[] samples = new int[queues.length * parts];
+        int count = 0;
+        for (BasicQueue queue : queues) {
+            int size = queue.getSize();
+            int step = Math.max(1, size / parts);
+            for (int position = step / 2; position < size && count < samples.length; position += step) {
+                samples[count++] = queue.get(position);
+            }
+        }
+        Arrays.sort(samples, 0, count);
+        int[] splitters = new int[parts - 1];
+        for (int j = 1; j < parts; j++) {
+            splitters[j - 1] = count == 0 ? 0 : samples[(int) ((long) j * count / parts)];
+        }
+        return splitters;
+    }
+
+    // First position in a sorted queue whose element is >= value
+    private static int lowerBound(BasicQueue queue, int value) {
+        int low = 0;
+        int high = queue.getSize();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (queue.get(middle) < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Copies queues [from, to) to their offsets, splitting while the group is large
+    private static class CopyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final BasicQueue[] queues;
+        private final LinkedList<Integer>[] lists;
+        private final int[] offsets;
+        private final int[] merged;
+        private final int from;
+        private final int to;
+
+        CopyTask(BasicQueue[] queues, LinkedList<Integer>[] lists, int[] offsets, int[] merged, int from, int to) {
+            this.queues = queues;
+            this.lists = lists;
+            this.offsets = offsets;
+            this.merged = merged;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && offsets[to] - offsets[from] > QueueParallel.DEFAULT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CopyTask(queues, lists, offsets, merged, from, middle),
+                        new CopyTask(queues, lists, offsets, merged, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                int[] position = {offsets[i]};
+                if (queues != null) {
+                    queues[i].forEachRun((array, start, end) -> {
+                        System.arraycopy(array, start, merged, position[0], end - start);
+                        position[0] += end - start;
+                    });
+                } else {
+                    for (int element : lists[i]) {
+                        merged[position[0]++] = element;
+                    }
+                }
+            }
+        }
+    }
+
+    // K-way merges partitions [from, to) of the sorted queues into their output slices
+    private static class PartitionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final BasicQueue[] queues;
+        private final int[][] cuts;
+        private final int[] merged;
+        private final int from;
+        private final int to;
+
+        PartitionTask(BasicQueue[] queues, int[][] cuts, int[] merged, int from, int to) {
+            this.queues = queues;
+            this.cuts = cuts;
+            this.merged = merged;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PartitionTask(queues, cuts, merged, from, middle),
+                        new PartitionTask(queues, cuts, merged, middle, to));
+                return;
+            }
+            int[] start = cuts[from];
+            int[] end = cuts[to];
+            // Elements of earlier partitions come first in the output
+            int out = 0;
+            for (int i = 0; i < queues.length; i++) {
+                out += start[i];
+            }
+            int[] positions = start.clone();
+            HeadHeap heads = new HeadHeap(queues.length);
+            for (int i = 0; i < queues.length; i++) {
+                if (positions[i] < end[i]) {
+                    heads.add(i, queues[i].get(positions[i]));
+                }
+            }
+            while (!heads.isEmpty()) {
+                int source = heads.topSource();
+                merged[out++] = heads.topValue();
+                if (++positions[source] < end[source]) {
+                    heads.replaceTop(queues[source].get(positions[source]));
+                } else {
+                    heads.removeTop();
+                }
+            }
+        }
+    }
+
+    // ---- Lazy merge views: elements are pulled from the sources only as they are read ----
+
+    /**
+     * View the elements of several sources one source after another, like
+     * mergQueuesNonDestructive but without building a merged queue
+     * Nothing is copied; the sources must not be modified while the view is in use
+     * 
+     * Time Complexity: O(1) per element read
+     * Space Complexity: O(1)
+     * 
+     * @param sources the element sources, e.g. elements(queue) or queue.iterator()
+     * @return an iterator over the concatenated elements
+     */
+    public static PrimitiveIterator.OfInt concatenatedView(PrimitiveIterator.OfInt... sources) {
+        return new PrimitiveIterator.OfInt() {
+            private int current;
+
+            @Override
+            public boolean hasNext() {
+                while (current < sources.length && !sources[current].hasNext()) {
+                    current++;
+                }
+                return current < sources.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return sources[current].nextInt();
+            }
+        };
+    }
+
+    /**
+     * View several sorted sources as one sorted sequence, like mergeSortedQueues
+     * but without building a merged queue. Only the current front of each source
+     * is held, in the same min-heap the k-way merge uses.
+     * The sources must not be modified while the view is in use
+     * 
+     * Time Complexity: O(k) to start, then O(log k) per element read
+     * Space Complexity: O(k)
+     * 
+     * @param sources the sorted element sources
+     * @return an iterator over the merged sorted elements
+     */
+    public static PrimitiveIterator.OfInt sortedView(PrimitiveIterator.OfInt... sources) {
+        HeadHeap heads = new HeadHeap(sources.length);
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i].hasNext()) {
+                heads.add(i, sources[i].nextInt());
+            }
+        }
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public int nextInt() {
+                if (heads.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                int element = heads.topValue();
+                PrimitiveIterator.OfInt source = sources[heads.topSource()];
+                if (source.hasNext()) {
+                    heads.replaceTop(source.nextInt());
+                } else {
+                    heads.removeTop();
+                }
+                return element;
+            }
+        };
+    }
+
+    /**
+     * View several sources interleaved, taking one element from each in turn
+     * and skipping sources that have run out, like mergeInterleaved
+     * The sources must not be modified while the view is in use
+     * 
+     * Time Complexity: O(1) amortized per element read
+     * Space Complexity: O(1)
+     * 
+     * @param sources the element sources
+     * @return an iterator over the interleaved elements
+     */
+    public static PrimitiveIterator.OfInt interleavedView(PrimitiveIterator.OfInt... sources) {
+        return new PrimitiveIterator.OfInt() {
+            private int current;
+            // Sources checked in a row without finding an element
+            private int exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (exhausted < sources.length && !sources[current].hasNext()) {
+                    current = (current + 1) % sources.length;
+                    exhausted++;
+                }
+                return exhausted < sources.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int element = sources[current].nextInt();
+                current = (current + 1) % sources.length;
+                exhausted = 0;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Iterate over a queue's elements in place, front to rear
+     * 
+     * @param queue the queue to read
+     * @return an iterator over primitive ints
+     */
+    public static PrimitiveIterator.OfInt elements(BasicQueue queue) {
+        return Spliterators.iterator(queue.spliterator());
+    }
+
+    /**
+     * Iterate over a LinkedList's elements in place, front to rear, unboxing each one
+     * 
+     * @param queue the queue to read
+     * @return an iterator over primitive ints
+     */
+    public static PrimitiveIterator.OfInt elements(LinkedList<Integer> queue) {
+        Iterator<Integer> boxed = queue.iterator();
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return boxed.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return boxed.next();
+            }
+        };
+    }
+
+    /**
+     * Turn a merge view into a sequential IntStream, e.g. to limit, filter or sum it
+     * 
+     * @param view the view to stream
+     * @return a stream that pulls from the view as it is consumed
+     */
+    public static IntStream stream(PrimitiveIterator.OfInt view) {
+        return StreamSupport.intStream(
+                Spliterators.spliteratorUnknownSize(view, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
     /**
      * Display queue elements
      * 
@@ -171,6 +966,64 @@ public class QueueMerge {
         System.out.println();
     }
 
+    /**
+     * Display BasicQueue elements without modifying it
+     * 
+     * @param queue the queue to display
+     * @param label label for display
+     */
+    public static void displayQueue(BasicQueue queue, String label) {
+        System.out.print(label + ": ");
+        queue.forEachRun((array, from, to) -> {
+            for (int i = from; i < to; i++) {
+                System.out.print(array[i] + " ");
+            }
+        });
+        System.out.println();
+    }
+
+    /**
+     * Display LinkedListQueue elements without modifying it
+     * 
+     * @param queue the queue to display
+     * @param label label for display
+     */
+    public static void displayQueue(LinkedListQueue queue, String label) {
+        System.out.print(label + ": ");
+        for (PrimitiveIterator.OfInt elements = queue.iterator(); elements.hasNext(); ) {
+            System.out.print(elements.nextInt() + " ");
+        }
+        System.out.println();
+    }
+
+    // Combined size of the queues, checked to fit in one array
+    private static int totalSize(BasicQueue[] queues) {
+        long total = 0;
+        for (BasicQueue queue : queues) {
+            total += queue.getSize();
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Merged queue would hold " + total + " elements");
+        }
+        return (int) total;
+    }
+
+    // Append every element of from to the rear of to, one array copy per contiguous run
+    private static void appendAll(BasicQueue from, BasicQueue to) {
+        from.forEachRun((array, start, end) -> to.enqueueAll(array, start, end - start));
+    }
+
+    // Copy the elements front to rear into a new array, one array copy per contiguous run
+    private static int[] toArray(BasicQueue queue) {
+        int[] elements = new int[queue.getSize()];
+        int[] position = {0};
+        queue.forEachRun((array, start, end) -> {
+            System.arraycopy(array, start, elements, position[0], end - start);
+            position[0] += end - start;
+        });
+        return elements;
+    }
+
     // Main method for testing
     public static void main(String[] args) {
         System.out.println("=== Queue Merge Operations ===\n");
@@ -271,5 +1124,133 @@ public class QueueMerge {
 
         LinkedList<Integer> mergedMultiple = mergeMultipleQueues(queues);
         displayQueue(mergedMultiple, "Merged Multiple Queues");
+
+        // Test 6: The same merges on primitive BasicQueues (no boxing, no nodes)
+        System.out.println("\n--- Test 6: Primitive BasicQueue Merges ---");
+        BasicQueue b1 = new BasicQueue(4);
+        BasicQueue b2 = new BasicQueue(4);
+        for (int i = 1; i <= 4; i++) {
+            b1.enqueue(i * 2 - 1);
+            b2.enqueue(i * 2);
+        }
+        // Wrap b1 around the end of its array
+        b1.dequeue();
+        b1.enqueue(9);
+        displayQueue(b1, "Basic Queue 1");
+        displayQueue(b2, "Basic Queue 2");
+
+        displayQueue(mergQueuesNonDestructive(b1, b2), "Merged Queue");
+        displayQueue(mergeSortedQueues(b1, b2), "Merged Sorted Queue");
+        displayQueue(mergeInterleaved(b1, b2), "Interleaved Merged Queue");
+        displayQueue(mergeMultipleQueues(new BasicQueue[] {b1, b2, b1}), "Merged Multiple Queues");
+        displayQueue(mergeQueues(b1, b2), "Merged Queue (destructive)");
+        System.out.println("Sizes after destructive merge: " + b1.getSize() + ", " + b2.getSize());
+
+        // Test 7: Splice merge, O(1) however long the queues are
+        System.out.println("\n--- Test 7: Splice Merge of Linked Queues ---");
+        int elements = 10_000_000;
+        LinkedListQueue big1 = new LinkedListQueue(1024);
+        LinkedListQueue big2 = new LinkedListQueue(1024);
+        for (int i = 0; i < elements; i++) {
+            big1.enqueue(i);
+            big2.enqueue(elements + i);
+        }
+        long start = System.nanoTime();
+        LinkedListQueue spliced = mergeQueues(big1, big2);
+        long spliceTime = System.nanoTime() - start;
+        System.out.println("Spliced " + 2L * elements + " elements in " + spliceTime / 1000 + " us; size "
+                + spliced.getSize() + ", second queue size " + big2.getSize());
+
+        LinkedListQueue small1 = new LinkedListQueue();
+        LinkedListQueue small2 = new LinkedListQueue();
+        small1.enqueue(1);
+        small1.enqueue(2);
+        small2.enqueue(3);
+        small2.enqueue(4);
+        displayQueue(mergeQueues(small1, small2), "Spliced Queue");
+
+        // Test 8: K-way merge of sorted queues
+        System.out.println("\n--- Test 8: K-way Merge of Sorted Queues ---");
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        LinkedList<Integer>[] sortedQueues = new LinkedList[3];
+        sortedQueues[0] = new LinkedList<>(java.util.List.of(1, 4, 7, 10));
+        sortedQueues[1] = new LinkedList<>(java.util.List.of(2, 5, 8));
+        sortedQueues[2] = new LinkedList<>(java.util.List.of(3, 6, 9, 10));
+        for (int i = 0; i < sortedQueues.length; i++) {
+            displayQueue(sortedQueues[i], "Sorted Queue " + (i + 1));
+        }
+        displayQueue(mergeSortedQueues(sortedQueues), "K-way Merged Queue");
+        displayQueue(mergeSortedQueuesConsuming(sortedQueues), "K-way Merged Queue (consuming)");
+        System.out.println("Queue 1 size after consuming merge: " + sortedQueues[0].size());
+
+        int shards = 500;
+        int shardSize = 2000;
+        BasicQueue[] shardQueues = new BasicQueue[shards];
+        for (int i = 0; i < shards; i++) {
+            shardQueues[i] = new BasicQueue(shardSize);
+            for (int j = 0; j < shardSize; j++) {
+                shardQueues[i].enqueue(j * shards + (i * 7919) % shards);
+            }
+        }
+        start = System.nanoTime();
+        BasicQueue mergedShards = mergeSortedQueues(shardQueues);
+        long kWayTime = System.nanoTime() - start;
+        boolean sorted = true;
+        for (int i = 1; i < mergedShards.getSize(); i++) {
+            sorted &= mergedShards.get(i - 1) <= mergedShards.get(i);
+        }
+        System.out.println("Merged " + shards + " shards of " + shardSize + " in " + kWayTime / 1_000_000
+                + " ms; size " + mergedShards.getSize() + ", sorted: " + sorted);
+
+        // Test 9: Lazy merge views, nothing is materialized
+        System.out.println("\n--- Test 9: Lazy Merge Views ---");
+        displayQueue(q5, "Queue 5");
+        displayQueue(q6, "Queue 6");
+        System.out.print("Concatenated view: ");
+        stream(concatenatedView(elements(q5), elements(q6))).forEach(element -> System.out.print(element + " "));
+        System.out.print("\nInterleaved view: ");
+        stream(interleavedView(elements(q5), elements(q6))).forEach(element -> System.out.print(element + " "));
+        System.out.print("\nSorted view: ");
+        stream(sortedView(elements(sorted1), elements(sorted2))).forEach(element -> System.out.print(element + " "));
+        System.out.println();
+
+        PrimitiveIterator.OfInt[] shardViews = new PrimitiveIterator.OfInt[shards];
+        for (int i = 0; i < shards; i++) {
+            shardViews[i] = elements(shardQueues[i]);
+        }
+        start = System.nanoTime();
+        int[] smallest = stream(sortedView(shardViews)).limit(5).toArray();
+        long viewTime = System.nanoTime() - start;
+        System.out.println("First 5 of " + shards + " sorted shards: " + Arrays.toString(smallest)
+                + " in " + viewTime / 1000 + " us, without merging the other " + (shards * shardSize - 5));
+
+        // Test 10: Parallel merges into one pre-sized array
+        System.out.println("\n--- Test 10: Parallel Merges ---");
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        System.out.println("Workers in common pool: " + pool.getParallelism());
+        System.out.println("Parallel merge of the Test 5 queues: " + Arrays.toString(mergeMultipleQueuesParallel(queues, pool)));
+
+        start = System.nanoTime();
+        BasicQueue sequentialConcat = mergeMultipleQueues(shardQueues);
+        long sequentialTime = System.nanoTime() - start;
+        start = System.nanoTime();
+        int[] parallelConcat = mergeMultipleQueuesParallel(shardQueues, pool);
+        long parallelTime = System.nanoTime() - start;
+        boolean same = parallelConcat.length == sequentialConcat.getSize();
+        for (int i = 0; same && i < parallelConcat.length; i++) {
+            same = parallelConcat[i] == sequentialConcat.get(i);
+        }
+        System.out.println("Concatenated " + parallelConcat.length + " elements: sequential " + sequentialTime / 1_000_000
+                + " ms, parallel " + parallelTime / 1_000_000 + " ms, same result: " + same);
+
+        start = System.nanoTime();
+        int[] parallelSorted = mergeSortedQueuesParallel(shardQueues, pool);
+        parallelTime = System.nanoTime() - start;
+        same = parallelSorted.length == mergedShards.getSize();
+        for (int i = 0; same && i < parallelSorted.length; i++) {
+            same = parallelSorted[i] == mergedShards.get(i);
+        }
+        System.out.println("Sorted merge of " + shards + " shards: k-way " + kWayTime / 1_000_000
+                + " ms, parallel " + parallelTime / 1_000_000 + " ms, same result: " + same);
     }
 }
@@ -0,0 +1,472 @@
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+/**
+ * Parallel search and aggregation over large queue snapshots.
+ * 
+ * Each operation splits the queue's spliterator in halves as a fork/join task
+ * until a piece holds no more than the threshold of elements, then scans that
+ * piece sequentially; a queue at or below the threshold is scanned on the
+ * calling thread. Positions stay exact because every piece knows its offset
+ * from the front. firstPosition and contains stop scanning pieces that lie
+ * behind a match already found.
+ * 
+ * The queue must not be modified while an operation runs.
+ */
+public class QueueParallel {
+
+    // Pieces at or below this many elements are scanned sequentially
+    public static final long DEFAULT_THRESHOLD = 1 << 15;
+
+    // Base task: split while large, otherwise fold the piece with accept()
+    private abstract static class ScanTask extends RecursiveTask<Long> implements IntConsumer {
+        private static final long serialVersionUID = 1L;
+
+        final Spliterator.OfInt elements;
+        final long offset;
+        final long threshold;
+
+        ScanTask(Spliterator.OfInt elements, long offset, long threshold) {
+            this.elements = elements;
+            this.offset = offset;
+            this.threshold = threshold;
+        }
+
+        abstract ScanTask child(Spliterator.OfInt elements, long offset);
+
+        abstract long result();
+
+        abstract long combine(long left, long right);
+
+        @Override
+        protected Long compute() {
+            if (elements.estimateSize() > threshold) {
+                long size = elements.estimateSize();
+                Spliterator.OfInt prefix = elements.trySplit();
+                if (prefix != null) {
+                    long prefixSize = size - elements.estimateSize();
+                    ScanTask left = child(prefix, offset);
+                    ScanTask right = child(elements, offset + prefixSize);
+                    left.fork();
+                    long rightResult = right.compute();
+                    return combine(left.join(), rightResult);
+                }
+            }
+            return scan();
+        }
+
+        // Scan this piece sequentially
+        long scan() {
+            elements.forEachRemaining(this);
+            return result();
+        }
+    }
+
+    private static class SumTask extends ScanTask {
+        private static final long serialVersionUID = 1L;
+
+        private long sum;
+
+        SumTask(Spliterator.OfInt elements, long offset, long threshold) {
+            super(elements, offset, threshold);
+        }
+
+        @Override
+        ScanTask child(Spliterator.OfInt elements, long offset) {
+            return new SumTask(elements, offset, threshold);
+        }
+
+        @Override
+        public void accept(int element) {
+            sum += element;
+        }
+
+        @Override
+        long result() {
+            return sum;
+        }
+
+        @Override
+        long combine(long left, long right) {
+            return left + right;
+        }
+    }
+
+    private static class CountTask extends ScanTask {
+        private static final long serialVersionUID = 1L;
+
+        private final int target;
+        private long count;
+
+        CountTask(Spliterator.OfInt elements, long offset, long threshold, int target) {
+            super(elements, offset, threshold);
+            this.target = target;
+        }
+
+        @Override
+        ScanTask child(Spliterator.OfInt elements, long offset) {
+            return new CountTask(elements, offset, threshold, target);
+        }
+
+        @Override
+        public void accept(int element) {
+            if (element == target) {
+                count++;
+            }
+        }
+
+        @Override
+        long result() {
+            return count;
+        }
+
+        @Override
+        long combine(long left, long right) {
+            return left + right;
+        }
+    }
+
+    // Minimum (max == false) or maximum (max == true)
+    private static class ExtremeTask extends ScanTask {
+        private static final long serialVersionUID = 1L;
+
+        private final boolean max;
+        private int extreme;
+
+        ExtremeTask(Spliterator.OfInt elements, long offset, long threshold, boolean max) {
+            super(elements, offset, threshold);
+            this.max = max;
+            this.extreme = max ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        }
+
+        @Override
+        ScanTask child(Spliterator.OfInt elements, long offset) {
+            return new ExtremeTask(elements, offset, threshold, max);
+        }
+
+        @Override
+        public void accept(int element) {
+            extreme = max ? Math.max(extreme, element) : Math.min(extreme, element);
+        }
+
+        @Override
+        long result() {
+            return extreme;
+        }
+
+        @Override
+        long combine(long left, long right) {
+            return max ? Math.max(left, right) : Math.min(left, right);
+        }
+    }
+
+    // Position of the first match, or Long.MAX_VALUE when there is none
+    private static class FirstPositionTask extends ScanTask {
+        private static final long serialVersionUID = 1L;
+
+        private final int target;
+        // Earliest match found by any task so far; later pieces are skipped
+        private final AtomicLong earliest;
+        private long position;
+        private boolean found;
+
+        FirstPositionTask(Spliterator.OfInt elements, long offset, long threshold, int target, AtomicLong earliest) {
+            super(elements, offset, threshold);
+            this.target = target;
+            this.earliest = earliest;
+            this.position = offset;
+        }
+
+        @Override
+        ScanTask child(Spliterator.OfInt elements, long offset) {
+            return new FirstPositionTask(elements, offset, threshold, target, earliest);
+        }
+
+        @Override
+        protected Long compute() {
+            if (offset > earliest.get()) {
+                return Long.MAX_VALUE;
+            }
+            return super.compute();
+        }
+
+        // Stop at the first match, or once an earlier match has been found elsewhere
+        @Override
+        long scan() {
+            while (!found && elements.tryAdvance(this)) {
+                if ((position & 1023) == 0 && position > earliest.get()) {
+                    return Long.MAX_VALUE;
+                }
+            }
+            if (!found) {
+                return Long.MAX_VALUE;
+            }
+            earliest.accumulateAndGet(position, Math::min);
+            return position;
+        }
+
+        @Override
+        public void accept(int element) {
+            if (element == target) {
+                found = true;
+            } else {
+                position++;
+            }
+        }
+
+        @Override
+        long result() {
+            return found ? position : Long.MAX_VALUE;
+        }
+
+        @Override
+        long combine(long left, long right) {
+            return Math.min(left, right);
+        }
+    }
+
+    /**
+     * Sum all elements, splitting the work across a fork/join pool
+     * Time Complexity: O(n / p) with p workers
+     * 
+     * @param elements spliterator over the elements, e.g. queue.spliterator()
+     * @param pool the pool to run on
+     * @param threshold largest piece scanned without splitting further
+     * @return the sum as a long, so it cannot overflow for int elements
+     */
+    public static long sum(Spliterator.OfInt elements, ForkJoinPool pool, long threshold) {
+        return pool.invoke(new SumTask(elements, 0, threshold));
+    }
+
+    /**
+     * Sum a BasicQueue on the common pool with the default threshold
+     * 
+     * @param queue the queue to sum
+     * @return the sum as a long
+     */
+    public static long sum(BasicQueue queue) {
+        return sum(queue.spliterator(), ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sum a LinkedListQueue on the common pool with the default threshold
+     * A chunked queue splits at chunk boundaries; a node queue splits by copying
+     * batches into arrays
+     * 
+     * @param queue the queue to sum
+     * @return the sum as a long
+     */
+    public static long sum(LinkedListQueue queue) {
+        return sum(queue.spliterator(), ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Count the occurrences of an element in parallel
+     * Time Complexity: O(n / p) with p workers
+     * 
+     * @param elements spliterator over the elements
+     * @param target the element to count
+     * @param pool the pool to run on
+     * @param threshold largest piece scanned without splitting further
+     * @return count of occurrences
+     */
+    public static long count(Spliterator.OfInt elements, int target, ForkJoinPool pool, long threshold) {
+        return pool.invoke(new CountTask(elements, 0, threshold, target));
+    }
+
+    /**
+     * Count the occurrences of an element in a BasicQueue on the common pool
+     * 
+     * @param queue the queue to search
+     * @param target the element to count
+     * @return count of occurrences
+     */
+    public static long count(BasicQueue queue, int target) {
+        return count(queue.spliterator(), target, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Count the occurrences of an element in a LinkedListQueue on the common pool
+     * 
+     * @param queue the queue to search
+     * @param target the element to count
+     * @return count of occurrences
+     */
+    public static long count(LinkedListQueue queue, int target) {
+        return count(queue.spliterator(), target, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Find the smallest element in parallel
+     * Time Complexity: O(n / p) with p workers
+     * 
+     * @param elements spliterator over the elements
+     * @param pool the pool to run on
+     * @param threshold largest piece scanned without splitting further
+     * @return the minimum element
+     * @throws NoSuchElementException if there are no elements
+     */
+    public static int min(Spliterator.OfInt elements, ForkJoinPool pool, long threshold) {
+        if (elements.estimateSize() == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return (int) (long) pool.invoke(new ExtremeTask(elements, 0, threshold, false));
+    }
+
+    /**
+     * Find the smallest element of a BasicQueue on the common pool
+     * 
+     * @param queue the queue to search
+     * @return the minimum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int min(BasicQueue queue) {
+        return min(queue.spliterator(), ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Find the smallest element of a LinkedListQueue on the common pool
+     * 
+     * @param queue the queue to search
+     * @return the minimum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int min(LinkedListQueue queue) {
+        return min(queue.spliterator(), ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Find the largest element in parallel
+     * Time Complexity: O(n / p) with p workers
+     * 
+     * @param elements spliterator over the elements
+     * @param pool the pool to run on
+     * @param threshold largest piece scanned without splitting further
+     * @return the maximum element
+     * @throws NoSuchElementException if there are no elements
+     */
+    public static int max(Spliterator.OfInt elements, ForkJoinPool pool, long threshold) {
+        if (elements.estimateSize() == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return (int) (long) pool.invoke(new ExtremeTask(elements, 0, threshold, true));
+    }
+
+    /**
+     * Find the largest element of a BasicQueue on the common pool
+     * 
+     * @param queue the queue to search
+     * @return the maximum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int max(BasicQueue queue) {
+        return max(queue.spliterator(), ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Find the largest element of a LinkedListQueue on the common pool
+     * 
+     * @param queue the queue to search
+     * @return the maximum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int max(LinkedListQueue queue) {
+        return max(queue.spliterator(), ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Find the position of the first occurrence in parallel (0 is the front)
+     * Pieces behind an already found match are skipped
+     * Time Complexity: O(n / p) with p workers
+     * 
+     * @param elements spliterator over the elements (must be SUBSIZED)
+     * @param target the element to find
+     * @param pool the pool to run on
+     * @param threshold largest piece scanned without splitting further
+     * @return position if found, -1 otherwise
+     */
+    public static long firstPosition(Spliterator.OfInt elements, int target, ForkJoinPool pool, long threshold) {
+        long position = pool.invoke(new FirstPositionTask(elements, 0, threshold, target, new AtomicLong(Long.MAX_VALUE)));
+        return position == Long.MAX_VALUE ? -1 : position;
+    }
+
+    /**
+     * Find the first position of an element in a BasicQueue on the common pool
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return position if found, -1 otherwise
+     */
+    public static long firstPosition(BasicQueue queue, int target) {
+        return firstPosition(queue.spliterator(), target, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Find the first position of an element in a LinkedListQueue on the common pool
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return position if found, -1 otherwise
+     */
+    public static long firstPosition(LinkedListQueue queue, int target) {
+        return firstPosition(queue.spliterator(), target, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Check whether the queue contains an element, in parallel
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return true if found, false otherwise
+     */
+    public static boolean contains(BasicQueue queue, int target) {
+        return firstPosition(queue, target) >= 0;
+    }
+
+    /**
+     * Check whether a LinkedListQueue contains an element, in parallel
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return true if found, false otherwise
+     */
+    public static boolean contains(LinkedListQueue queue, int target) {
+        return firstPosition(queue, target) >= 0;
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("=== Parallel Queue Operations (Fork/Join) ===\n");
+
+        int elements = 4_000_000;
+        BasicQueue arrayQueue = new BasicQueue(elements);
+        LinkedListQueue chunkedQueue = new LinkedListQueue(1024);
+        for (int i = 0; i < elements; i++) {
+            int element = (int) ((i * 2654435761L) % 1_000_003);
+            arrayQueue.enqueue(element);
+            chunkedQueue.enqueue(element);
+        }
+        System.out.println("Workers in common pool: " + ForkJoinPool.commonPool().getParallelism());
+        System.out.println("Elements: " + elements + "\n");
+
+        System.out.println("--- BasicQueue ---");
+        System.out.println("Sum: " + sum(arrayQueue));
+        System.out.println("Min: " + min(arrayQueue) + ", Max: " + max(arrayQueue));
+        System.out.println("Count of 42: " + count(arrayQueue, 42));
+        System.out.println("First position of 42: " + firstPosition(arrayQueue, 42)
+                + " (sequential: " + QueueSearch.firstPosition(arrayQueue, 42) + ")");
+        System.out.println("Contains -1: " + contains(arrayQueue, -1));
+
+        System.out.println("\n--- Chunked LinkedListQueue ---");
+        System.out.println("Sum: " + sum(chunkedQueue));
+        System.out.println("Min: " + min(chunkedQueue) + ", Max: " + max(chunkedQueue));
+        System.out.println("Count of 42: " + count(chunkedQueue, 42));
+        System.out.println("First position of 42: " + firstPosition(chunkedQueue, 42)
+                + " (sequential: " + QueueSearch.firstPosition(chunkedQueue, 42) + ")");
+        System.out.println("Contains -1: " + contains(chunkedQueue, -1));
+    }
+}
@@ -1,4 +1,7 @@
 import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 
 public class QueueRecursion {
 
@@ -25,6 +28,24 @@ public class QueueRecursion {
         queue.addLast(front);
     }
 
+    // ---- BasicQueue overloads: the recursion splits position ranges in half,
+    // so the stack depth is O(log n) and nothing is removed, re-added or boxed ----
+
+    /**
+     * Reverse a BasicQueue
+     * Swapping from both ends gives the same result as the recursive version
+     * without removing anything or using the call stack
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to reverse
+     */
+    public static void reverseQueue(BasicQueue queue) {
+        // Swapping from both ends needs no recursion at all
+        queue.reverse();
+    }
+
     /**
      * Recursively search for an element in the queue
      * 
@@ -55,6 +76,28 @@ public class QueueRecursion {
         return found;
     }
 
+    /**
+     * Recursively search for an element in a BasicQueue
+     * Each call splits its position range in half, so the stack is O(log n)
+     * deep and the queue is never modified
+     * 
+     * @param queue the queue to search
+     * @param target the element to search for
+     * @return true if element is found, false otherwise
+     */
+    public static boolean recursiveSearch(BasicQueue queue, int target) {
+        return searchRange(queue, target, 0, queue.getSize());
+    }
+
+    // Search positions [from, to)
+    private static boolean searchRange(BasicQueue queue, int target, int from, int to) {
+        if (to - from <= 1) {
+            return to > from && queue.get(from) == target;
+        }
+        int middle = (from + to) >>> 1;
+        return searchRange(queue, target, from, middle) || searchRange(queue, target, middle, to);
+    }
+
     /**
      * Recursively print queue elements in order
      * Time Complexity: O(n)
@@ -77,6 +120,36 @@ public class QueueRecursion {
         queue.addLast(front);
     }
 
+    /**
+     * Recursively print BasicQueue elements in order, halving the position range
+     * at each call
+     * Time Complexity: O(n)
+     * Space Complexity: O(log n) due to recursive call stack
+     * 
+     * @param queue the queue to print
+     */
+    public static void recursivePrint(BasicQueue queue) {
+        printRange(queue, 0, queue.getSize(), false);
+    }
+
+    // Print positions [from, to), front to rear or rear to front
+    private static void printRange(BasicQueue queue, int from, int to, boolean reverse) {
+        if (to - from <= 1) {
+            if (to > from) {
+                System.out.print(queue.get(from) + " ");
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        if (reverse) {
+            printRange(queue, middle, to, true);
+            printRange(queue, from, middle, true);
+        } else {
+            printRange(queue, from, middle, false);
+            printRange(queue, middle, to, false);
+        }
+    }
+
     /**
      * Recursively print queue elements in reverse order
      * Time Complexity: O(n)
@@ -101,6 +174,30 @@ public class QueueRecursion {
         queue.addLast(front);
     }
 
+    /**
+     * Recursively print BasicQueue elements in reverse order, visiting the rear
+     * half of each position range first
+     * Time Complexity: O(n)
+     * Space Complexity: O(log n) due to recursive call stack
+     * 
+     * @param queue the queue to print
+     */
+    public static void recursivePrintReverse(BasicQueue queue) {
+        printRange(queue, 0, queue.getSize(), true);
+    }
+
+    /**
+     * Print deque elements in reverse order by reading it backwards
+     * Unlike recursivePrintReverse, nothing is removed, re-added or allocated
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     */
+    public static void printReverse(IntRingDeque queue) {
+        for (int position = queue.getSize() - 1; position >= 0; position--) {
+            System.out.print(queue.get(position) + " ");
+        }
+    }
+
     /**
      * Recursively find the maximum element in the queue
      * 
@@ -126,6 +223,32 @@ public class QueueRecursion {
         return Math.max(front, maxRest);
     }
 
+    /**
+     * Recursively find the maximum element in a BasicQueue as the larger of
+     * the maxima of both halves
+     * 
+     * @param queue the queue to search
+     * @return the maximum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int findMax(BasicQueue queue) {
+        if (queue.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return extremeInRange(queue, 0, queue.getSize(), true);
+    }
+
+    // Largest (max == true) or smallest element of the non-empty positions [from, to)
+    private static int extremeInRange(BasicQueue queue, int from, int to, boolean max) {
+        if (to - from == 1) {
+            return queue.get(from);
+        }
+        int middle = (from + to) >>> 1;
+        int left = extremeInRange(queue, from, middle, max);
+        int right = extremeInRange(queue, middle, to, max);
+        return max ? Math.max(left, right) : Math.min(left, right);
+    }
+
     /**
      * Recursively find the minimum element in the queue
      * 
@@ -151,13 +274,28 @@ public class QueueRecursion {
         return Math.min(front, minRest);
     }
 
+    /**
+     * Recursively find the minimum element in a BasicQueue as the smaller of
+     * the minima of both halves
+     * 
+     * @param queue the queue to search
+     * @return the minimum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int findMin(BasicQueue queue) {
+        if (queue.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return extremeInRange(queue, 0, queue.getSize(), false);
+    }
+
     /**
      * Recursively calculate the sum of all elements in the queue
      * 
      * @param queue the queue to process
-     * @return the sum of all elements
+     * @return the sum of all elements, as a long so it cannot overflow
      */
-    public static int recursiveSum(LinkedList<Integer> queue) {
+    public static long recursiveSum(LinkedList<Integer> queue) {
         // Base case: empty queue
         if (queue.isEmpty()) {
             return 0;
@@ -167,7 +305,7 @@ public class QueueRecursion {
         int front = queue.removeFirst();
 
         // Recursively calculate the sum of remaining elements
-        int sum = front + recursiveSum(queue);
+        long sum = front + recursiveSum(queue);
 
         // Add the element back
         queue.addFirst(front);
@@ -175,6 +313,300 @@ public class QueueRecursion {
         return sum;
     }
 
+    /**
+     * Recursively calculate the sum of all elements in a BasicQueue by adding
+     * the sums of both halves
+     * 
+     * @param queue the queue to process
+     * @return the sum of all elements, as a long so it cannot overflow
+     */
+    public static long recursiveSum(BasicQueue queue) {
+        return sumRange(queue, 0, queue.getSize());
+    }
+
+    // Sum positions [from, to)
+    private static long sumRange(BasicQueue queue, int from, int to) {
+        if (to - from <= 1) {
+            return to > from ? queue.get(from) : 0;
+        }
+        int middle = (from + to) >>> 1;
+        return sumRange(queue, from, middle) + sumRange(queue, middle, to);
+    }
+
+    // ---- Iterative equivalents: O(1) extra stack, safe for very large queues ----
+
+    /**
+     * Reverse a queue in place by swapping elements from both ends
+     * Same result as reverseQueue without one stack frame per element
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     */
+    public static void reverseQueueIterative(LinkedList<Integer> queue) {
+        ListIterator<Integer> forward = queue.listIterator();
+        ListIterator<Integer> backward = queue.listIterator(queue.size());
+        for (int i = 0, mid = queue.size() / 2; i < mid; i++) {
+            Integer front = forward.next();
+            forward.set(backward.previous());
+            backward.set(front);
+        }
+    }
+
+    /**
+     * Reverse a BasicQueue in place by swapping elements from both ends
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to reverse
+     */
+    public static void reverseQueueIterative(BasicQueue queue) {
+        queue.reverse();
+    }
+
+    /**
+     * Reverse a LinkedListQueue in place
+     * Node mode re-points the links; chunked mode reverses the chunks and their contents
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to reverse
+     */
+    public static void reverseQueueIterative(LinkedListQueue queue) {
+        queue.reverse();
+    }
+
+    /**
+     * Search for an element with a loop instead of recursion
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to search for
+     * @return true if element is found, false otherwise
+     */
+    public static boolean iterativeSearch(LinkedList<Integer> queue, int target) {
+        for (int element : queue) {
+            if (element == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Search a BasicQueue with a loop instead of recursion
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to search for
+     * @return true if element is found, false otherwise
+     */
+    public static boolean iterativeSearch(BasicQueue queue, int target) {
+        return QueueSearch.contains(queue, target);
+    }
+
+    /**
+     * Search a LinkedListQueue with a loop instead of recursion
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to search for
+     * @return true if element is found, false otherwise
+     */
+    public static boolean iterativeSearch(LinkedListQueue queue, int target) {
+        return QueueSearch.contains(queue, target);
+    }
+
+    /**
+     * Find the maximum element with a loop instead of recursion
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @return the maximum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int findMaxIterative(LinkedList<Integer> queue) {
+        if (queue.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        int max = Integer.MIN_VALUE;
+        for (int element : queue) {
+            max = Math.max(max, element);
+        }
+        return max;
+    }
+
+    /**
+     * Find the maximum element of a BasicQueue with one loop over its backing array
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @return the maximum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int findMaxIterative(BasicQueue queue) {
+        if (queue.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        int[] max = {Integer.MIN_VALUE};
+        queue.forEachRun((array, from, to) -> {
+            for (int i = from; i < to; i++) {
+                max[0] = Math.max(max[0], array[i]);
+            }
+        });
+        return max[0];
+    }
+
+    /**
+     * Find the maximum element of a LinkedListQueue with a loop instead of recursion
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @return the maximum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int findMaxIterative(LinkedListQueue queue) {
+        if (queue.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        int max = Integer.MIN_VALUE;
+        for (PrimitiveIterator.OfInt elements = queue.iterator(); elements.hasNext(); ) {
+            max = Math.max(max, elements.nextInt());
+        }
+        return max;
+    }
+
+    /**
+     * Find the minimum element with a loop instead of recursion
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @return the minimum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int findMinIterative(LinkedList<Integer> queue) {
+        if (queue.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        int min = Integer.MAX_VALUE;
+        for (int element : queue) {
+            min = Math.min(min, element);
+        }
+        return min;
+    }
+
+    /**
+     * Find the minimum element of a BasicQueue with one loop over its backing array
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @return the minimum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int findMinIterative(BasicQueue queue) {
+        if (queue.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        int[] min = {Integer.MAX_VALUE};
+        queue.forEachRun((array, from, to) -> {
+            for (int i = from; i < to; i++) {
+                min[0] = Math.min(min[0], array[i]);
+            }
+        });
+        return min[0];
+    }
+
+    /**
+     * Find the minimum element of a LinkedListQueue with a loop instead of recursion
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @return the minimum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public static int findMinIterative(LinkedListQueue queue) {
+        if (queue.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        int min = Integer.MAX_VALUE;
+        for (PrimitiveIterator.OfInt elements = queue.iterator(); elements.hasNext(); ) {
+            min = Math.min(min, elements.nextInt());
+        }
+        return min;
+    }
+
+    /**
+     * Calculate the sum of all elements with a loop instead of recursion
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to process
+     * @return the sum of all elements, as a long so large queues cannot overflow it
+     */
+    public static long iterativeSum(LinkedList<Integer> queue) {
+        long sum = 0;
+        for (int element : queue) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    /**
+     * Calculate the sum of a BasicQueue with one loop over its backing array
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to process
+     * @return the sum of all elements, as a long so large queues cannot overflow it
+     */
+    public static long iterativeSum(BasicQueue queue) {
+        long[] sum = {0};
+        queue.forEachRun((array, from, to) -> {
+            for (int i = from; i < to; i++) {
+                sum[0] += array[i];
+            }
+        });
+        return sum[0];
+    }
+
+    /**
+     * Calculate the sum of a LinkedListQueue with a loop instead of recursion
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to process
+     * @return the sum of all elements, as a long so large queues cannot overflow it
+     */
+    public static long iterativeSum(LinkedListQueue queue) {
+        long sum = 0;
+        for (PrimitiveIterator.OfInt elements = queue.iterator(); elements.hasNext(); ) {
+            sum += elements.nextInt();
+        }
+        return sum;
+    }
+
     // Main method for testing
     public static void main(String[] args) {
         System.out.println("=== Queue with Recursive Operations ===\n");
@@ -218,5 +650,62 @@ public class QueueRecursion {
         System.out.print("Reversed Queue: ");
         recursivePrint(queue);
         System.out.println("\n");
+
+        System.out.println("--- Iterative Versions ---");
+        reverseQueueIterative(queue);
+        System.out.println("Reversed back: " + queue);
+        System.out.println("Search for 30: " + iterativeSearch(queue, 30));
+        System.out.println("Minimum: " + findMinIterative(queue) + ", Maximum: " + findMaxIterative(queue)
+                + ", Sum: " + iterativeSum(queue));
+
+        System.out.println("One-pass summary: " + QueueSummary.of(queue));
+
+        System.out.println("\n--- Recursive vs Iterative on 100,000 Elements ---");
+        LinkedList<Integer> large = new LinkedList<>();
+        for (int i = 1; i <= 100_000; i++) {
+            large.addLast(i);
+        }
+        System.out.println("Iterative sum: " + iterativeSum(large));
+        try {
+            // On overflow the recursion unwinds without restoring the removed elements
+            System.out.println("Recursive sum: " + recursiveSum(new LinkedList<>(large)));
+        } catch (StackOverflowError e) {
+            System.out.println("Recursive sum: StackOverflowError");
+        }
+
+        System.out.println("\n--- Iterative Reverse on Primitive Queues (10M elements) ---");
+        int elements = 10_000_000;
+        BasicQueue arrayQueue = new BasicQueue(elements);
+        LinkedListQueue chunkedQueue = new LinkedListQueue(1024);
+        for (int i = 0; i < elements; i++) {
+            arrayQueue.enqueue(i);
+            chunkedQueue.enqueue(i);
+        }
+        reverseQueueIterative(arrayQueue);
+        reverseQueueIterative(chunkedQueue);
+        System.out.println("Front after reverse: " + arrayQueue.peek() + " / " + chunkedQueue.peek());
+        System.out.println("Max: " + findMaxIterative(arrayQueue) + ", Min: " + findMinIterative(chunkedQueue)
+                + ", Sum: " + iterativeSum(arrayQueue));
+
+        System.out.println("\n--- Recursive Operations on a BasicQueue (O(log n) stack) ---");
+        BasicQueue small = new BasicQueue(5);
+        for (int i = 1; i <= 5; i++) {
+            small.enqueue(i * 10);
+        }
+        System.out.print("Queue: ");
+        recursivePrint(small);
+        System.out.print("\nReversed: ");
+        recursivePrintReverse(small);
+        System.out.println("\nSearch for 30: " + recursiveSearch(small, 30)
+                + ", Search for 100: " + recursiveSearch(small, 100));
+        System.out.println("Minimum: " + findMin(small) + ", Maximum: " + findMax(small)
+                + ", Sum: " + recursiveSum(small));
+        reverseQueue(small);
+        System.out.print("Reversed Queue: ");
+        recursivePrint(small);
+        System.out.println();
+        // The 10M-element queue that overflows the element-by-element recursion
+        System.out.println("Recursive sum of " + elements + " elements: " + recursiveSum(arrayQueue)
+                + ", Max: " + findMax(arrayQueue));
     }
 }
@@ -1,7 +1,126 @@
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.PrimitiveIterator;
 
 public class QueueSearch {
 
+    // Up to this many distinct targets are looked up by binary search; more use a hash table
+    private static final int SMALL_TARGET_LIMIT = 16;
+
+    /**
+     * Positions and counts for every target of a multi-target search,
+     * gathered in one pass over the queue
+     */
+    public static class MultiSearchResult {
+        private final TargetIndex index;
+        private final int[] firstPositions;
+        private final int[] lastPositions;
+        private final int[] counts;
+
+        private MultiSearchResult(TargetIndex index) {
+            this.index = index;
+            this.firstPositions = new int[index.size()];
+            this.lastPositions = new int[index.size()];
+            this.counts = new int[index.size()];
+            Arrays.fill(firstPositions, -1);
+            Arrays.fill(lastPositions, -1);
+        }
+
+        // Record an element at a position if it is one of the targets
+        private void accept(int element, int position) {
+            int target = index.indexOf(element);
+            if (target >= 0) {
+                if (counts[target]++ == 0) {
+                    firstPositions[target] = position;
+                }
+                lastPositions[target] = position;
+            }
+        }
+
+        public boolean contains(int target) {
+            return count(target) > 0;
+        }
+
+        // Position of the first occurrence, or -1 if absent (or not a target)
+        public int firstPosition(int target) {
+            int i = index.indexOf(target);
+            return i < 0 ? -1 : firstPositions[i];
+        }
+
+        // Position of the last occurrence, or -1 if absent (or not a target)
+        public int lastPosition(int target) {
+            int i = index.indexOf(target);
+            return i < 0 ? -1 : lastPositions[i];
+        }
+
+        public int count(int target) {
+            int i = index.indexOf(target);
+            return i < 0 ? 0 : counts[i];
+        }
+    }
+
+    // Maps each distinct target to a dense index 0..size()-1
+    private static class TargetIndex {
+        private final int[] keys;
+        // Hash mode only: dense index per slot, -1 when the slot is free
+        private final int[] slots;
+        private final int size;
+
+        TargetIndex(int[] targets) {
+            int[] distinct = targets.clone();
+            Arrays.sort(distinct);
+            int count = 0;
+            for (int i = 0; i < distinct.length; i++) {
+                if (i == 0 || distinct[i] != distinct[i - 1]) {
+                    distinct[count++] = distinct[i];
+                }
+            }
+            size = count;
+            if (count <= SMALL_TARGET_LIMIT) {
+                // Few targets: binary search over the sorted distinct values
+                keys = Arrays.copyOf(distinct, count);
+                slots = null;
+                return;
+            }
+            // Open addressing at load factor <= 1/2
+            int length = Integer.highestOneBit(count * 2 - 1) << 1;
+            keys = new int[length];
+            slots = new int[length];
+            Arrays.fill(slots, -1);
+            for (int i = 0; i < count; i++) {
+                int slot = home(distinct[i]);
+                while (slots[slot] >= 0) {
+                    slot = (slot + 1) & (length - 1);
+                }
+                keys[slot] = distinct[i];
+                slots[slot] = i;
+            }
+        }
+
+        private int home(int key) {
+            return (key * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(keys.length - 1);
+        }
+
+        int indexOf(int value) {
+            if (slots == null) {
+                int i = Arrays.binarySearch(keys, value);
+                return i < 0 ? -1 : i;
+            }
+            int mask = keys.length - 1;
+            for (int slot = home(value); slots[slot] >= 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == value) {
+                    return slots[slot];
+                }
+            }
+            return -1;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
     /**
      * Linear Search - Basic search through queue
      * This is DISRUPTIVE as it modifies the original queue
@@ -29,6 +148,32 @@ public class QueueSearch {
         return false;
     }
 
+    /**
+     * Linear Search - Disruptive search through a BasicQueue
+     * Elements are dequeued until the target turns up, so the match and
+     * everything in front of it are gone afterwards
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return true if found, false otherwise
+     */
+    public static boolean linearSearchDisruptive(BasicQueue queue, int target) {
+        System.out.println("Performing disruptive linear search for: " + target);
+
+        while (!queue.isEmpty()) {
+            if (queue.dequeue() == target) {
+                System.out.println("Element " + target + " found!");
+                return true;
+            }
+        }
+
+        System.out.println("Element " + target + " not found!");
+        return false;
+    }
+
     /**
      * Linear Search - Non-disruptive search through queue
      * This preserves the original queue structure
@@ -42,26 +187,37 @@ public class QueueSearch {
      */
     public static boolean linearSearchNonDisruptive(LinkedList<Integer> queue, int target) {
         System.out.println("Performing non-disruptive linear search for: " + target);
-        
-        LinkedList<Integer> tempQueue = new LinkedList<>();
-        boolean found = false;
 
-        // Transfer elements to temp queue while searching
-        while (!queue.isEmpty()) {
-            int element = queue.removeFirst();
-            if (element == target) {
-                found = true;
-                System.out.println("Element " + target + " found!");
-            }
-            tempQueue.addLast(element);
+        // Iterate in place; the queue is never modified
+        boolean found = contains(queue, target);
+        if (found) {
+            System.out.println("Element " + target + " found!");
+        } else {
+            System.out.println("Element " + target + " not found!");
         }
 
-        // Restore original queue
-        while (!tempQueue.isEmpty()) {
-            queue.addLast(tempQueue.removeFirst());
-        }
+        return found;
+    }
 
-        if (!found) {
+    /**
+     * Linear Search - Non-disruptive search through a BasicQueue
+     * The backing array is read in place, so unlike the LinkedList version
+     * no temporary copy is needed
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return true if found, false otherwise
+     */
+    public static boolean linearSearchNonDisruptive(BasicQueue queue, int target) {
+        System.out.println("Performing non-disruptive linear search for: " + target);
+
+        boolean found = contains(queue, target);
+        if (found) {
+            System.out.println("Element " + target + " found!");
+        } else {
             System.out.println("Element " + target + " not found!");
         }
 
@@ -70,10 +226,10 @@ public class QueueSearch {
 
     /**
      * Search with position tracking
-     * Returns the position of the element in the queue (0-based)
+     * Returns the position of the last occurrence of the element in the queue (0-based)
      * 
-     * Time Complexity: O(n)
-     * Space Complexity: O(n)
+     * Time Complexity: O(n), scanning from the rear and stopping at the first match
+     * Space Complexity: O(1)
      * 
      * @param queue the queue to search
      * @param target the element to find
@@ -81,25 +237,34 @@ public class QueueSearch {
      */
     public static int findPosition(LinkedList<Integer> queue, int target) {
         System.out.println("Finding position of: " + target);
-        
-        LinkedList<Integer> tempQueue = new LinkedList<>();
-        int position = 0;
-        int targetPosition = -1;
 
-        while (!queue.isEmpty()) {
-            int element = queue.removeFirst();
-            if (element == target) {
-                targetPosition = position;
-            }
-            tempQueue.addLast(element);
-            position++;
-        }
+        int targetPosition = lastPosition(queue, target);
 
-        // Restore original queue
-        while (!tempQueue.isEmpty()) {
-            queue.addLast(tempQueue.removeFirst());
+        if (targetPosition != -1) {
+            System.out.println("Element found at position: " + targetPosition);
+        } else {
+            System.out.println("Element not found!");
         }
 
+        return targetPosition;
+    }
+
+    /**
+     * Search with position tracking on a BasicQueue
+     * Returns the position of the last occurrence (0-based), as lastPosition finds it
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return position if found, -1 otherwise
+     */
+    public static int findPosition(BasicQueue queue, int target) {
+        System.out.println("Finding position of: " + target);
+
+        int targetPosition = lastPosition(queue, target);
+
         if (targetPosition != -1) {
             System.out.println("Element found at position: " + targetPosition);
         } else {
@@ -113,7 +278,7 @@ public class QueueSearch {
      * Search and count occurrences of an element
      * 
      * Time Complexity: O(n)
-     * Space Complexity: O(n)
+     * Space Complexity: O(1)
      * 
      * @param queue the queue to search
      * @param target the element to find
@@ -121,42 +286,456 @@ public class QueueSearch {
      */
     public static int countOccurrences(LinkedList<Integer> queue, int target) {
         System.out.println("Counting occurrences of: " + target);
-        
-        LinkedList<Integer> tempQueue = new LinkedList<>();
-        int count = 0;
 
-        while (!queue.isEmpty()) {
-            int element = queue.removeFirst();
+        int count = count(queue, target);
+
+        System.out.println("Found " + count + " occurrence(s)");
+        return count;
+    }
+
+    /**
+     * Search and count occurrences of an element in a BasicQueue, printing the count
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return count of occurrences
+     */
+    public static int countOccurrences(BasicQueue queue, int target) {
+        System.out.println("Counting occurrences of: " + target);
+
+        int count = count(queue, target);
+
+        System.out.println("Found " + count + " occurrence(s)");
+        return count;
+    }
+
+    // ---- Read-only search primitives: iterate in place, no printing, no copying ----
+
+    /**
+     * Check whether the queue contains an element, stopping at the first match
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return true if found, false otherwise
+     */
+    public static boolean contains(LinkedList<Integer> queue, int target) {
+        return firstPosition(queue, target) != -1;
+    }
+
+    /**
+     * Check whether a BasicQueue contains an element, stopping at the first match
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return true if found, false otherwise
+     */
+    public static boolean contains(BasicQueue queue, int target) {
+        return firstPosition(queue, target) != -1;
+    }
+
+    /**
+     * Check whether a LinkedListQueue (node or chunked) contains an element,
+     * stopping at the first match
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return true if found, false otherwise
+     */
+    public static boolean contains(LinkedListQueue queue, int target) {
+        return firstPosition(queue, target) != -1;
+    }
+
+    /**
+     * Position of the first occurrence (0 is the front), stopping at the match
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return position if found, -1 otherwise
+     */
+    public static int firstPosition(LinkedList<Integer> queue, int target) {
+        int position = 0;
+        for (int element : queue) {
             if (element == target) {
-                count++;
+                return position;
             }
-            tempQueue.addLast(element);
+            position++;
         }
+        return -1;
+    }
 
-        // Restore original queue
-        while (!tempQueue.isEmpty()) {
-            queue.addLast(tempQueue.removeFirst());
+    /**
+     * Position of the first occurrence in a BasicQueue (0 is the front)
+     * The backing array is scanned as the one or two runs the elements occupy;
+     * once the first run holds a match the second is not read
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return position if found, -1 otherwise
+     */
+    public static int firstPosition(BasicQueue queue, int target) {
+        // Scan the backing array run by run; once matched, the second run is skipped
+        int[] match = {-1};
+        int[] offset = {0};
+        queue.forEachRun((array, from, to) -> {
+            for (int i = from; i < to && match[0] == -1; i++) {
+                if (array[i] == target) {
+                    match[0] = offset[0] + i - from;
+                }
+            }
+            offset[0] += to - from;
+        });
+        return match[0];
+    }
+
+    /**
+     * Position of the first occurrence in a LinkedListQueue (0 is the front),
+     * read unboxed through the queue's primitive iterator
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return position if found, -1 otherwise
+     */
+    public static int firstPosition(LinkedListQueue queue, int target) {
+        PrimitiveIterator.OfInt elements = queue.iterator();
+        for (int position = 0; elements.hasNext(); position++) {
+            if (elements.nextInt() == target) {
+                return position;
+            }
         }
+        return -1;
+    }
 
-        System.out.println("Found " + count + " occurrence(s)");
+    /**
+     * Position of the last occurrence (0 is the front)
+     * Time Complexity: O(n); LinkedList and BasicQueue scan from the rear and
+     * stop at the match, LinkedListQueue is singly linked and scans it all
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return position if found, -1 otherwise
+     */
+    public static int lastPosition(LinkedList<Integer> queue, int target) {
+        Iterator<Integer> elements = queue.descendingIterator();
+        for (int position = queue.size() - 1; elements.hasNext(); position--) {
+            if (elements.next() == target) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Position of the last occurrence in a BasicQueue (0 is the front)
+     * Each run of the backing array is scanned from its end up to its last match,
+     * and a match in the rear run replaces one in the front run
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return position if found, -1 otherwise
+     */
+    public static int lastPosition(BasicQueue queue, int target) {
+        // Scan each run from its end; a match in a later run replaces an earlier one
+        int[] match = {-1};
+        int[] offset = {0};
+        queue.forEachRun((array, from, to) -> {
+            for (int i = to - 1; i >= from; i--) {
+                if (array[i] == target) {
+                    match[0] = offset[0] + i - from;
+                    break;
+                }
+            }
+            offset[0] += to - from;
+        });
+        return match[0];
+    }
+
+    /**
+     * Position of the last occurrence in a LinkedListQueue (0 is the front)
+     * The queue can only be walked forwards, so every element is read and the
+     * latest match is kept
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return position if found, -1 otherwise
+     */
+    public static int lastPosition(LinkedListQueue queue, int target) {
+        int last = -1;
+        PrimitiveIterator.OfInt elements = queue.iterator();
+        for (int position = 0; elements.hasNext(); position++) {
+            if (elements.nextInt() == target) {
+                last = position;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Positions of every occurrence, front to rear
+     * Time Complexity: O(n)
+     * Space Complexity: O(k) for k matches
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return the positions in increasing order (empty if not found)
+     */
+    public static int[] allPositions(LinkedList<Integer> queue, int target) {
+        int[] positions = new int[8];
+        int found = 0;
+        int position = 0;
+        for (int element : queue) {
+            if (element == target) {
+                positions = addPosition(positions, found++, position);
+            }
+            position++;
+        }
+        return Arrays.copyOf(positions, found);
+    }
+
+    /**
+     * Positions of every occurrence in a BasicQueue, front to rear
+     * Positions count from the front even when the elements wrap around the end
+     * of the backing array
+     * Time Complexity: O(n)
+     * Space Complexity: O(k) for k matches
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return the positions in increasing order (empty if not found)
+     */
+    public static int[] allPositions(BasicQueue queue, int target) {
+        int[][] positions = {new int[8]};
+        int[] found = {0};
+        int[] offset = {0};
+        queue.forEachRun((array, from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (array[i] == target) {
+                    positions[0] = addPosition(positions[0], found[0]++, offset[0] + i - from);
+                }
+            }
+            offset[0] += to - from;
+        });
+        return Arrays.copyOf(positions[0], found[0]);
+    }
+
+    /**
+     * Positions of every occurrence in a LinkedListQueue, front to rear
+     * Time Complexity: O(n)
+     * Space Complexity: O(k) for k matches
+     * 
+     * @param queue the queue to search
+     * @param target the element to find
+     * @return the positions in increasing order (empty if not found)
+     */
+    public static int[] allPositions(LinkedListQueue queue, int target) {
+        int[] positions = new int[8];
+        int found = 0;
+        PrimitiveIterator.OfInt elements = queue.iterator();
+        for (int position = 0; elements.hasNext(); position++) {
+            if (elements.nextInt() == target) {
+                positions = addPosition(positions, found++, position);
+            }
+        }
+        return Arrays.copyOf(positions, found);
+    }
+
+    // Store a position, doubling the array when it is full
+    private static int[] addPosition(int[] positions, int index, int position) {
+        if (index == positions.length) {
+            positions = Arrays.copyOf(positions, positions.length * 2);
+        }
+        positions[index] = position;
+        return positions;
+    }
+
+    /**
+     * Count the occurrences of an element
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to count
+     * @return count of occurrences
+     */
+    public static int count(LinkedList<Integer> queue, int target) {
+        int count = 0;
+        for (int element : queue) {
+            if (element == target) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count the occurrences of an element in a BasicQueue, comparing straight
+     * against the backing array
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to count
+     * @return count of occurrences
+     */
+    public static int count(BasicQueue queue, int target) {
+        int[] count = {0};
+        queue.forEachRun((array, from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (array[i] == target) {
+                    count[0]++;
+                }
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Count the occurrences of an element in a LinkedListQueue without boxing
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     * 
+     * @param queue the queue to search
+     * @param target the element to count
+     * @return count of occurrences
+     */
+    public static int count(LinkedListQueue queue, int target) {
+        int count = 0;
+        PrimitiveIterator.OfInt elements = queue.iterator();
+        while (elements.hasNext()) {
+            if (elements.nextInt() == target) {
+                count++;
+            }
+        }
         return count;
     }
 
     /**
      * Search for multiple elements
+     * All targets are looked up in a single pass over the queue
      * 
-     * Time Complexity: O(n * m) where m is number of targets
-     * Space Complexity: O(n)
+     * Time Complexity: O(n + m log m) where m is number of targets
+     * Space Complexity: O(m)
      * 
      * @param queue the queue to search
      * @param targets array of elements to find
+     * @return positions and counts for every target
      */
-    public static void searchMultiple(LinkedList<Integer> queue, int[] targets) {
-        System.out.println("Searching for multiple elements: " + java.util.Arrays.toString(targets));
-        
+    public static MultiSearchResult searchMultiple(LinkedList<Integer> queue, int[] targets) {
+        System.out.println("Searching for multiple elements: " + Arrays.toString(targets));
+
+        MultiSearchResult result = searchAll(queue, targets);
+        printPositions(result, targets);
+        return result;
+    }
+
+    /**
+     * Search a BasicQueue for multiple elements
+     * All targets are looked up in a single pass, then each target's last
+     * position is printed as findPosition would print it
+     * 
+     * Time Complexity: O(n + m log m) where m is number of targets
+     * Space Complexity: O(m)
+     * 
+     * @param queue the queue to search
+     * @param targets array of elements to find
+     * @return positions and counts for every target
+     */
+    public static MultiSearchResult searchMultiple(BasicQueue queue, int[] targets) {
+        System.out.println("Searching for multiple elements: " + Arrays.toString(targets));
+
+        MultiSearchResult result = searchAll(queue, targets);
+        printPositions(result, targets);
+        return result;
+    }
+
+    // Print each target's last position, as findPosition does
+    private static void printPositions(MultiSearchResult result, int[] targets) {
         for (int target : targets) {
-            findPosition(queue, target);
+            System.out.println("Finding position of: " + target);
+            int position = result.lastPosition(target);
+            if (position != -1) {
+                System.out.println("Element found at position: " + position);
+            } else {
+                System.out.println("Element not found!");
+            }
+        }
+    }
+
+    /**
+     * Find the first and last position and the count of every target in one pass, without printing
+     * Time Complexity: O(n + m log m) where m is number of targets
+     * Space Complexity: O(m)
+     * 
+     * @param queue the queue to search
+     * @param targets the elements to find (duplicates are ignored)
+     * @return positions and counts for every target
+     */
+    public static MultiSearchResult searchAll(LinkedList<Integer> queue, int[] targets) {
+        MultiSearchResult result = new MultiSearchResult(new TargetIndex(targets));
+        int position = 0;
+        for (int element : queue) {
+            result.accept(element, position++);
+        }
+        return result;
+    }
+
+    /**
+     * Find the first and last position and the count of every target in a
+     * BasicQueue in one pass over its backing array, without printing
+     * Time Complexity: O(n + m log m) where m is number of targets
+     * Space Complexity: O(m)
+     * 
+     * @param queue the queue to search
+     * @param targets the elements to find (duplicates are ignored)
+     * @return positions and counts for every target
+     */
+    public static MultiSearchResult searchAll(BasicQueue queue, int[] targets) {
+        MultiSearchResult result = new MultiSearchResult(new TargetIndex(targets));
+        int[] position = {0};
+        queue.forEachRun((array, from, to) -> {
+            for (int i = from; i < to; i++) {
+                result.accept(array[i], position[0]++);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Find the first and last position and the count of every target in a
+     * LinkedListQueue in one pass, without printing
+     * Time Complexity: O(n + m log m) where m is number of targets
+     * Space Complexity: O(m)
+     * 
+     * @param queue the queue to search
+     * @param targets the elements to find (duplicates are ignored)
+     * @return positions and counts for every target
+     */
+    public static MultiSearchResult searchAll(LinkedListQueue queue, int[] targets) {
+        MultiSearchResult result = new MultiSearchResult(new TargetIndex(targets));
+        PrimitiveIterator.OfInt elements = queue.iterator();
+        for (int position = 0; elements.hasNext(); position++) {
+            result.accept(elements.nextInt(), position);
         }
+        return result;
     }
 
     /**
@@ -172,6 +751,21 @@ public class QueueSearch {
         System.out.println();
     }
 
+    /**
+     * Display BasicQueue elements front to rear without modifying it
+     * 
+     * @param queue the queue to display
+     */
+    public static void displayQueue(BasicQueue queue) {
+        System.out.print("Queue: ");
+        queue.forEachRun((array, from, to) -> {
+            for (int i = from; i < to; i++) {
+                System.out.print(array[i] + " ");
+            }
+        });
+        System.out.println();
+    }
+
     // Main method for testing
     public static void main(String[] args) {
         System.out.println("=== Queue Search Operations ===\n");
@@ -215,6 +809,35 @@ public class QueueSearch {
         int[] targets = {20, 10, 50, 30};
         searchMultiple(queue2, targets);
 
+        System.out.println("\n--- Read-only Primitives on Primitive Queues ---");
+        BasicQueue arrayQueue = new BasicQueue(8);
+        LinkedListQueue chunkedQueue = new LinkedListQueue(4);
+        for (int element : new int[] {10, 20, 10, 30, 10, 40}) {
+            arrayQueue.enqueue(element);
+            chunkedQueue.enqueue(element);
+        }
+        arrayQueue.display();
+        System.out.println("contains(30): " + contains(arrayQueue, 30) + " / " + contains(chunkedQueue, 30));
+        System.out.println("firstPosition(10): " + firstPosition(arrayQueue, 10) + " / " + firstPosition(chunkedQueue, 10));
+        System.out.println("lastPosition(10): " + lastPosition(arrayQueue, 10) + " / " + lastPosition(chunkedQueue, 10));
+        System.out.println("allPositions(10): " + Arrays.toString(allPositions(arrayQueue, 10))
+                + " / " + Arrays.toString(allPositions(chunkedQueue, 10)));
+        System.out.println("count(10): " + count(arrayQueue, 10) + " / " + count(chunkedQueue, 10));
+
+        System.out.println("\n--- Single-pass Search for 2000 Targets ---");
+        BasicQueue million = new BasicQueue(1_000_000);
+        for (int i = 0; i < 1_000_000; i++) {
+            million.enqueue(i % 50_000);
+        }
+        int[] manyTargets = new int[2000];
+        for (int i = 0; i < manyTargets.length; i++) {
+            manyTargets[i] = i * 37;
+        }
+        MultiSearchResult result = searchAll(million, manyTargets);
+        System.out.println("count(37): " + result.count(37) + ", firstPosition(37): " + result.firstPosition(37)
+                + ", lastPosition(37): " + result.lastPosition(37));
+        System.out.println("contains(73963): " + result.contains(73963));
+
         System.out.println("\n--- Disruptive Linear Search (Empties Queue) ---");
         LinkedList<Integer> queue3 = new LinkedList<>();
         queue3.addLast(5);
@@ -226,5 +849,14 @@ public class QueueSearch {
         linearSearchDisruptive(queue3, 15);
         displayQueue(queue3);
         System.out.println("Queue is now empty due to disruptive search!");
+
+        System.out.println("\n--- Printing Searches on a BasicQueue ---");
+        displayQueue(arrayQueue);
+        linearSearchNonDisruptive(arrayQueue, 30);
+        findPosition(arrayQueue, 10);
+        countOccurrences(arrayQueue, 10);
+        searchMultiple(arrayQueue, targets);
+        linearSearchDisruptive(arrayQueue, 30);
+        displayQueue(arrayQueue);
     }
 }
@@ -0,0 +1,130 @@
+import java.util.IntSummaryStatistics;
+import java.util.LinkedList;
+
+/**
+ * One-pass count, sum, min, max and mean of a queue's elements.
+ * 
+ * Results are IntSummaryStatistics: the sum is a long, so it cannot overflow
+ * for int elements, and an empty queue gives a count of 0 instead of an
+ * exception. For array-backed queues the elements are read straight from the
+ * backing array by an unrolled loop with four independent accumulators, which
+ * removes the loop-carried dependency of a plain loop and lets the JIT keep
+ * several additions and comparisons in flight (and vectorize them where the
+ * CPU allows).
+ */
+public class QueueSummary {
+
+    /**
+     * Summarize a range of an int array
+     * Time Complexity: O(to - from)
+     * 
+     * @param values the array
+     * @param from index of the first element
+     * @param to index one past the last element
+     * @return count, sum, min, max and average of the range
+     */
+    public static IntSummaryStatistics of(int[] values, int from, int to) {
+        long sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int min0 = Integer.MAX_VALUE, min1 = Integer.MAX_VALUE, min2 = Integer.MAX_VALUE, min3 = Integer.MAX_VALUE;
+        int max0 = Integer.MIN_VALUE, max1 = Integer.MIN_VALUE, max2 = Integer.MIN_VALUE, max3 = Integer.MIN_VALUE;
+        int i = from;
+        for (; i <= to - 4; i += 4) {
+            int a = values[i];
+            int b = values[i + 1];
+            int c = values[i + 2];
+            int d = values[i + 3];
+            sum0 += a;
+            sum1 += b;
+            sum2 += c;
+            sum3 += d;
+            min0 = Math.min(min0, a);
+            min1 = Math.min(min1, b);
+            min2 = Math.min(min2, c);
+            min3 = Math.min(min3, d);
+            max0 = Math.max(max0, a);
+            max1 = Math.max(max1, b);
+            max2 = Math.max(max2, c);
+            max3 = Math.max(max3, d);
+        }
+        for (; i < to; i++) {
+            sum0 += values[i];
+            min0 = Math.min(min0, values[i]);
+            max0 = Math.max(max0, values[i]);
+        }
+        int min = Math.min(Math.min(min0, min1), Math.min(min2, min3));
+        int max = Math.max(Math.max(max0, max1), Math.max(max2, max3));
+        return new IntSummaryStatistics(to - from, min, max, sum0 + sum1 + sum2 + sum3);
+    }
+
+    /**
+     * Summarize a BasicQueue by scanning its backing array directly
+     * Time Complexity: O(n)
+     * 
+     * @param queue the queue to summarize
+     * @return count, sum, min, max and average of the elements
+     */
+    public static IntSummaryStatistics of(BasicQueue queue) {
+        IntSummaryStatistics summary = new IntSummaryStatistics();
+        queue.forEachRun((array, from, to) -> summary.combine(of(array, from, to)));
+        return summary;
+    }
+
+    /**
+     * Summarize a LinkedListQueue (node or chunked) in one pass
+     * Time Complexity: O(n)
+     * 
+     * @param queue the queue to summarize
+     * @return count, sum, min, max and average of the elements
+     */
+    public static IntSummaryStatistics of(LinkedListQueue queue) {
+        IntSummaryStatistics summary = new IntSummaryStatistics();
+        queue.spliterator().forEachRemaining(summary);
+        return summary;
+    }
+
+    /**
+     * Summarize a LinkedList queue in one pass
+     * Time Complexity: O(n)
+     * 
+     * @param queue the queue to summarize
+     * @return count, sum, min, max and average of the elements
+     */
+    public static IntSummaryStatistics of(LinkedList<Integer> queue) {
+        IntSummaryStatistics summary = new IntSummaryStatistics();
+        for (int element : queue) {
+            summary.accept(element);
+        }
+        return summary;
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("=== Queue Summary (One Pass) ===\n");
+
+        BasicQueue queue = new BasicQueue(6);
+        for (int element : new int[] {40, 10, 30}) {
+            queue.enqueue(element);
+        }
+        queue.dequeue();
+        for (int element : new int[] {Integer.MAX_VALUE, Integer.MAX_VALUE, -5, 20}) {
+            queue.enqueue(element);
+        }
+        queue.display();
+        IntSummaryStatistics summary = of(queue);
+        System.out.println("Count: " + summary.getCount());
+        System.out.println("Sum: " + summary.getSum() + " (an int sum would overflow)");
+        System.out.println("Min: " + summary.getMin() + ", Max: " + summary.getMax());
+        System.out.printf("Mean: %.2f%n", summary.getAverage());
+
+        System.out.println("\n--- Empty Queue ---");
+        IntSummaryStatistics empty = of(new BasicQueue(4));
+        System.out.println("Count: " + empty.getCount() + ", Sum: " + empty.getSum() + ", Mean: " + empty.getAverage());
+
+        System.out.println("\n--- Chunked LinkedListQueue ---");
+        LinkedListQueue chunked = new LinkedListQueue(4);
+        for (int i = 1; i <= 10; i++) {
+            chunked.enqueue(i * 100);
+        }
+        System.out.println(of(chunked));
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * The built-in job scheduling policies, selectable when a PrinterJobQueue is created.
+ */
+public enum SchedulingPolicy {
+    // Jobs print in arrival order
+    FIFO,
+    // Most urgent priority first, with aging
+    PRIORITY,
+    // Fewest pages first
+    SHORTEST_JOB_FIRST,
+    // Each submitter gets an equal share of pages printed
+    WEIGHTED_FAIR,
+    // Submitters take turns, each spending a fixed page budget per turn
+    DEFICIT_ROUND_ROBIN;
+
+    /**
+     * Create a new, empty scheduler for this policy with default settings
+     * 
+     * @return a scheduler implementing the policy
+     */
+    public JobScheduler newScheduler() {
+        switch (this) {
+            case PRIORITY:
+                return new PriorityJobScheduler();
+            case SHORTEST_JOB_FIRST:
+                return new ShortestJobFirstScheduler();
+            case WEIGHTED_FAIR:
+                return new WeightedFairScheduler();
+            case DEFICIT_ROUND_ROBIN:
+                return new DeficitRoundRobinScheduler();
+            case FIFO:
+            default:
+                return new FifoJobScheduler();
+        }
+    }
+}
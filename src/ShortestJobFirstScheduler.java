@@ -0,0 +1,101 @@
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Shortest-job-first scheduling: the job with the fewest pages prints next.
+ * 
+ * Page count is the best predictor of how long a job occupies the printer, so
+ * serving short jobs first minimises the mean wait (a 2-page memo no longer
+ * waits behind a 50-page archive). Ties go to the lower jobId. Long jobs can
+ * wait indefinitely while short ones keep arriving; use PriorityJobScheduler or
+ * a fair scheduler where that matters.
+ * 
+ * Jobs are kept in a binary min-heap, so add and poll are O(log n).
+ */
+public class ShortestJobFirstScheduler implements JobScheduler {
+
+    private PrinterJobQueue.PrintJob[] heap = new PrinterJobQueue.PrintJob[16];
+    private int size;
+
+    // Ordering: fewer pages first, then lower jobId
+    private static boolean before(PrinterJobQueue.PrintJob a, PrinterJobQueue.PrintJob b) {
+        return a.pages != b.pages ? a.pages < b.pages : a.jobId < b.jobId;
+    }
+
+    /**
+     * Add a job to the heap
+     * Time Complexity: O(log n)
+     */
+    @Override
+    public void add(PrinterJobQueue.PrintJob job) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int index = size++;
+        // Sift up
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(job, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = job;
+    }
+
+    /**
+     * Remove the job with the fewest pages
+     * Time Complexity: O(log n)
+     */
+    @Override
+    public PrinterJobQueue.PrintJob poll() {
+        if (size == 0) {
+            return null;
+        }
+        PrinterJobQueue.PrintJob first = heap[0];
+        PrinterJobQueue.PrintJob last = heap[--size];
+        heap[size] = null;
+        if (size > 0) {
+            // Sift down
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && before(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!before(heap[child], last)) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = last;
+        }
+        return first;
+    }
+
+    @Override
+    public PrinterJobQueue.PrintJob peek() {
+        return size == 0 ? null : heap[0];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Visit jobs in service order (sorts a copy of the heap)
+     * Time Complexity: O(n log n)
+     */
+    @Override
+    public void forEachJob(Consumer<PrinterJobQueue.PrintJob> action) {
+        PrinterJobQueue.PrintJob[] ordered = Arrays.copyOf(heap, size);
+        Arrays.sort(ordered, (a, b) -> before(a, b) ? -1 : before(b, a) ? 1 : 0);
+        for (PrinterJobQueue.PrintJob job : ordered) {
+            action.accept(job);
+        }
+    }
+}
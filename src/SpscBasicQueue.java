@@ -0,0 +1,265 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Single-producer/single-consumer version of BasicQueue's circular buffer.
+ * 
+ * Exactly one thread may call the producer methods (offer, enqueue) and
+ * exactly one other thread may call the consumer methods (poll, dequeue, peek).
+ * No locks and no shared size field are used: the producer owns the tail
+ * counter, the consumer owns the head counter, and each side only publishes
+ * its own counter with an ordered (release) store. The counters live on
+ * separate cache lines so the two threads never contend on the same line.
+ */
+public class SpscBasicQueue extends SpscPadAfterTail {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscHeadField.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscTailField.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int[] queue;
+    private final int capacity;
+    private final int mask;
+    private QueueListener listener = QueueListener.NO_OP;
+
+    // Constructor to initialize the queue with a given capacity
+    public SpscBasicQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        // Backing array is rounded up to a power of two so the index is a single AND
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity) {
+            length <<= 1;
+        }
+        this.queue = new int[length];
+        this.mask = length - 1;
+    }
+
+    /**
+     * Offer - Add an element to the rear of the queue (producer thread only)
+     * Time Complexity: O(1)
+     * 
+     * @param element the element to be added
+     * @return true if the element was added, false if the queue is full
+     */
+    public boolean offer(int element) {
+        long currentTail = tail;
+        if (currentTail - headCache >= capacity) {
+            // Only re-read the consumer's counter when the cached view says full
+            headCache = (long) HEAD.getAcquire(this);
+            if (currentTail - headCache >= capacity) {
+                return false;
+            }
+        }
+        queue[(int) currentTail & mask] = element;
+        TAIL.setRelease(this, currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Poll - Remove and return the front element (consumer thread only)
+     * Time Complexity: O(1)
+     * 
+     * @param emptyValue the value to return when the queue is empty
+     * @return the front element, or emptyValue if the queue is empty
+     */
+    public int poll(int emptyValue) {
+        long currentHead = head;
+        if (currentHead >= tailCache) {
+            // Only re-read the producer's counter when the cached view says empty
+            tailCache = (long) TAIL.getAcquire(this);
+            if (currentHead >= tailCache) {
+                return emptyValue;
+            }
+        }
+        int element = queue[(int) currentHead & mask];
+        HEAD.setRelease(this, currentHead + 1);
+        return element;
+    }
+
+    /**
+     * Enqueue - Add an element to the rear of the queue (producer thread only)
+     * Time Complexity: O(1)
+     * 
+     * @param element the element to be added
+     */
+    public void enqueue(int element) {
+        if (offer(element)) {
+            listener.onEnqueue(element);
+        } else {
+            listener.onRejected(element);
+        }
+    }
+
+    /**
+     * Dequeue - Remove and return the front element (consumer thread only)
+     * Time Complexity: O(1)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int dequeue() {
+        if (isEmpty()) {
+            listener.onDequeueEmpty();
+            return -1;
+        }
+        int element = poll(-1);
+        listener.onDequeue(element);
+        return element;
+    }
+
+    /**
+     * Peek - View the front element without removing it (consumer thread only)
+     * Time Complexity: O(1)
+     * 
+     * @return the front element or -1 if queue is empty
+     */
+    public int peek() {
+        long currentHead = head;
+        if (currentHead >= (long) TAIL.getAcquire(this)) {
+            listener.onPeekEmpty();
+            return -1;
+        }
+        return queue[(int) currentHead & mask];
+    }
+
+    /**
+     * Attach a listener that is notified of enqueue/dequeue events
+     * Set it before the queue is shared with other threads
+     * 
+     * @param listener the listener to notify, or null to remove it
+     */
+    public void setListener(QueueListener listener) {
+        this.listener = listener == null ? QueueListener.NO_OP : listener;
+    }
+
+    /**
+     * Check if the queue is empty
+     * 
+     * @return true if queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return getSize() == 0;
+    }
+
+    /**
+     * Check if the queue is full
+     * 
+     * @return true if queue is full, false otherwise
+     */
+    public boolean isFull() {
+        return getSize() == capacity;
+    }
+
+    /**
+     * Get the current size of the queue
+     * Safe to call from any thread; the result is a snapshot
+     * 
+     * @return the number of elements in the queue
+     */
+    public int getSize() {
+        // Read head first: tail can only move forward afterwards, never behind it
+        long currentHead = (long) HEAD.getAcquire(this);
+        long currentTail = (long) TAIL.getAcquire(this);
+        long size = currentTail - currentHead;
+        return (int) Math.min(Math.max(size, 0), capacity);
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== SPSC Queue Implementation (Lock-free ring buffer) ===\n");
+
+        SpscBasicQueue queue = new SpscBasicQueue(5);
+        queue.setListener(QueueListener.CONSOLE);
+
+        System.out.println("--- Single-threaded Operations ---");
+        queue.enqueue(10);
+        queue.enqueue(20);
+        queue.enqueue(30);
+        System.out.println("Queue size: " + queue.getSize());
+        System.out.println("Front element (Peek): " + queue.peek());
+        queue.dequeue();
+        queue.enqueue(40);
+        queue.enqueue(50);
+        queue.enqueue(60);
+        System.out.println("Queue is full: " + queue.isFull());
+        queue.enqueue(70); // This will fail as queue is full
+
+        System.out.println("\n--- One Producer Thread, One Consumer Thread ---");
+        final int operations = 10_000_000;
+        final SpscBasicQueue shared = new SpscBasicQueue(1024);
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < operations; i++) {
+                while (!shared.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+
+        final long[] checksum = new long[1];
+        Thread consumer = new Thread(() -> {
+            long sum = 0;
+            for (int i = 0; i < operations; i++) {
+                int element;
+                while ((element = shared.poll(-1)) == -1) {
+                    Thread.yield();
+                }
+                sum += element;
+            }
+            checksum[0] = sum;
+        });
+
+        long start = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        long elapsed = System.nanoTime() - start;
+
+        long expected = (long) operations * (operations - 1) / 2;
+        System.out.println("Transferred " + operations + " elements, checksum "
+                + (checksum[0] == expected ? "OK" : "MISMATCH"));
+        System.out.printf("Throughput: %.1f million ops/sec%n", operations / (elapsed / 1000.0));
+    }
+}
+
+// Padding classes: the JVM lays out superclass fields before subclass fields,
+// so this hierarchy keeps head and tail on different cache lines.
+abstract class SpscPadBeforeHead {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+}
+
+abstract class SpscHeadField extends SpscPadBeforeHead {
+    // Written by the consumer only
+    long head;
+    // Consumer's cached copy of tail
+    long tailCache;
+}
+
+abstract class SpscPadBetween extends SpscHeadField {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+    long p18, p19, p1a, p1b, p1c, p1d, p1e, p1f;
+}
+
+abstract class SpscTailField extends SpscPadBetween {
+    // Written by the producer only
+    long tail;
+    // Producer's cached copy of head
+    long headCache;
+}
+
+abstract class SpscPadAfterTail extends SpscTailField {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p28, p29, p2a, p2b, p2c, p2d, p2e, p2f;
+}
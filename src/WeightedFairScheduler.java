@@ -0,0 +1,107 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Weighted fair queuing across submitters, measured in pages.
+ * 
+ * Each submitter is entitled to a share of the printer proportional to its
+ * weight (1 by default). A job is stamped with a virtual finish time: it starts
+ * when the later of the current virtual time and the submitter's previous
+ * finish, and lasts pages / weight. The job with the smallest finish time
+ * prints next, so a submitter that floods the queue only delays its own jobs.
+ * This is the self-clocked variant: virtual time is the finish time of the job
+ * most recently sent to the printer.
+ * 
+ * Jobs are kept in a heap, so add and poll are O(log n).
+ */
+public class WeightedFairScheduler implements JobScheduler {
+
+    // A queued job with its virtual finish time
+    private static class Entry {
+        final PrinterJobQueue.PrintJob job;
+        final double finish;
+
+        Entry(PrinterJobQueue.PrintJob job, double finish) {
+            this.job = job;
+            this.finish = finish;
+        }
+    }
+
+    private static final Comparator<Entry> ORDER = (a, b) -> a.finish != b.finish
+            ? Double.compare(a.finish, b.finish)
+            : Integer.compare(a.job.jobId, b.job.jobId);
+
+    private final PriorityQueue<Entry> entries = new PriorityQueue<>(ORDER);
+    private final Map<String, Double> weights = new HashMap<>();
+    private final Map<String, Double> lastFinish = new HashMap<>();
+    private double virtualTime;
+
+    /**
+     * Set a submitter's share of the printer relative to other submitters
+     * 
+     * @param submitter the submitter name
+     * @param weight the relative share, greater than 0
+     */
+    public void setWeight(String submitter, double weight) {
+        if (!(weight > 0)) {
+            throw new IllegalArgumentException("Weight must be positive: " + weight);
+        }
+        weights.put(submitter, weight);
+    }
+
+    /**
+     * Stamp a job with its virtual finish time and add it to the heap
+     * Time Complexity: O(log n)
+     */
+    @Override
+    public void add(PrinterJobQueue.PrintJob job) {
+        double weight = weights.getOrDefault(job.submitter, 1.0);
+        double start = Math.max(virtualTime, lastFinish.getOrDefault(job.submitter, 0.0));
+        double finish = start + job.pages / weight;
+        lastFinish.put(job.submitter, finish);
+        entries.add(new Entry(job, finish));
+    }
+
+    /**
+     * Remove the job with the smallest virtual finish time
+     * Time Complexity: O(log n)
+     */
+    @Override
+    public PrinterJobQueue.PrintJob poll() {
+        Entry entry = entries.poll();
+        if (entry == null) {
+            return null;
+        }
+        virtualTime = entry.finish;
+        return entry.job;
+    }
+
+    @Override
+    public PrinterJobQueue.PrintJob peek() {
+        Entry entry = entries.peek();
+        return entry == null ? null : entry.job;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Visit jobs in service order (sorts a copy of the heap)
+     * Time Complexity: O(n log n)
+     */
+    @Override
+    public void forEachJob(Consumer<PrinterJobQueue.PrintJob> action) {
+        List<Entry> ordered = new ArrayList<>(entries);
+        ordered.sort(ORDER);
+        for (Entry entry : ordered) {
+            action.accept(entry.job);
+        }
+    }
+}